@@ -0,0 +1,126 @@
+package com.github.kindratsm.snr.benchmarks;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.kindratsm.snr.engines.SNREngine;
+import com.github.kindratsm.snr.enums.SNRCountry;
+import com.github.kindratsm.snr.enums.SNRLanguage;
+import com.github.kindratsm.snr.models.SNRPhoneNumber;
+
+/**
+ * SNR Engine JMH benchmark, run with {@code mvn -P benchmark test-compile exec:exec}
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SNREngineBenchmark {
+
+	/**
+	 * Benchmark input shapes
+	 */
+	public enum InputShape {
+
+		// Short phone-like input
+		PHONE("2 10 69 30 6 6 4"),
+		// Long transcript with modulus and complex groups
+		TRANSCRIPT("0 0 30 69 700 24 1 3 50 2 30 5 6 40 7 25 4 90 1 12 8 60 3"),
+		// Single long group with maximum amount of splits
+		ADVERSARIAL_GROUP("999999999"),
+		// Many groups with two interpretations each
+		ADVERSARIAL_SEQUENCE("25 25 25 25 25 25 25 25 25 25 25 25");
+
+		private final String input;
+
+		/**
+		 * Input shape constructor
+		 * 
+		 * @param input the input
+		 */
+		private InputShape(String input) {
+			this.input = input;
+		}
+
+		/**
+		 * Input getter
+		 * 
+		 * @return the input
+		 */
+		public String getInput() {
+			return input;
+		}
+
+	}
+
+	/**
+	 * Benchmark state based on language and input shape
+	 */
+	@State(Scope.Benchmark)
+	public static class EngineState {
+
+		@Param
+		public SNRLanguage language;
+
+		@Param
+		public InputShape shape;
+
+		public SNREngine engine;
+		public String input;
+
+		@Setup
+		public void setup() {
+			engine = SNREngine.getInstance(language);
+			input = shape.getInput();
+		}
+
+	}
+
+	/**
+	 * Benchmark state based on country
+	 */
+	@State(Scope.Benchmark)
+	public static class CountryState {
+
+		@Param
+		public SNRCountry country;
+
+	}
+
+	@Benchmark
+	public BigInteger countInterpretations(EngineState state) {
+		return state.engine.countInterpretations(state.input);
+	}
+
+	@Benchmark
+	public String[] recognize(EngineState state) {
+		return state.engine.recognize(state.input);
+	}
+
+	@Benchmark
+	public SNRPhoneNumber[] recognizePhoneNumbers(EngineState state, CountryState countryState) {
+		return state.engine.recognize(countryState.country, state.input);
+	}
+
+	@Benchmark
+	public SNRPhoneNumber[] recognizeValidPhoneNumbers(EngineState state, CountryState countryState) {
+		return state.engine.recognizeValid(countryState.country, state.input);
+	}
+
+}
@@ -0,0 +1,232 @@
+package com.github.kindratsm.snr;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+import com.github.kindratsm.snr.engines.SNREngine;
+import com.github.kindratsm.snr.enums.SNRCountry;
+import com.github.kindratsm.snr.enums.SNRLanguage;
+import com.github.kindratsm.snr.helpers.LangHelper;
+import com.github.kindratsm.snr.models.SNRPhoneNumber;
+
+/**
+ * Headless batch application which streams input file line by line, recognizes
+ * every line and writes phone numbers interpretations to output file. Memory
+ * use does not depend on file size
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class BatchApplication {
+
+	private static final int READ_BUFFER_SIZE = 1 << 16;
+	private static final int WRITE_BUFFER_SIZE = 1 << 20;
+	private static final char SEPARATOR = '\t';
+	private static final String VALID = "VALID";
+	private static final String INVALID = "INVALID";
+
+	private final SNREngine engine;
+	private final SNRCountry country;
+	private final boolean validOnly;
+
+	private long lineCount;
+	private long errorCount;
+	private long interpretationCount;
+	private long validCount;
+
+	/**
+	 * Batch application constructor
+	 * 
+	 * @param language  the language
+	 * @param country   the country
+	 * @param validOnly write only valid phone numbers
+	 */
+	public BatchApplication(SNRLanguage language, SNRCountry country, boolean validOnly) {
+		LangHelper.notNull(language);
+		LangHelper.notNull(country);
+
+		this.engine = SNREngine.getInstance(language);
+		this.country = country;
+		this.validOnly = validOnly;
+	}
+
+	/**
+	 * Method to process input file to output file
+	 * 
+	 * @param inputPath  the input file path
+	 * @param outputPath the output file path
+	 * @throws IOException if input can not be read or output can not be written
+	 */
+	public void process(Path inputPath, Path outputPath) throws IOException {
+		LangHelper.notNull(inputPath);
+		LangHelper.notNull(outputPath);
+
+		try (FileChannel inputChannel = FileChannel.open(inputPath, StandardOpenOption.READ);
+				FileChannel outputChannel = FileChannel.open(outputPath, StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+				Reader channelReader = Channels.newReader(inputChannel, StandardCharsets.UTF_8.newDecoder(),
+						READ_BUFFER_SIZE);
+				Writer channelWriter = Channels.newWriter(outputChannel, StandardCharsets.UTF_8.newEncoder(),
+						WRITE_BUFFER_SIZE);
+				BufferedReader reader = new BufferedReader(channelReader, READ_BUFFER_SIZE);
+				BufferedWriter writer = new BufferedWriter(channelWriter, WRITE_BUFFER_SIZE)) {
+			long lineNumber = 0;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+
+				if (line.trim().isEmpty()) {
+					continue;
+				}
+
+				lineCount++;
+
+				try {
+					processLine(line, writer);
+				} catch (IllegalArgumentException ex) {
+					errorCount++;
+					System.err.println(String.format("Line %d: %s", lineNumber, ex.getMessage()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Method to recognize single line and write its interpretations
+	 * 
+	 * @param line   the input line
+	 * @param writer the output writer
+	 * @throws IOException if output can not be written
+	 */
+	private void processLine(String line, Writer writer) throws IOException {
+		if (validOnly) {
+			for (SNRPhoneNumber phoneNumber : engine.recognizeValid(country, line)) {
+				interpretationCount++;
+				validCount++;
+				writeLine(writer, line, phoneNumber.getInterpretation(), true);
+			}
+		} else {
+			final Iterator<String> iterator = engine.iterate(line);
+			while (iterator.hasNext()) {
+				final String interpretation = iterator.next();
+				final boolean valid = country.isValidPhoneNumber(interpretation);
+
+				interpretationCount++;
+				if (valid) {
+					validCount++;
+				}
+				writeLine(writer, line, interpretation, valid);
+			}
+		}
+	}
+
+	/**
+	 * Method to write output line (e.g. input, interpretation and validity
+	 * separated by tab)
+	 * 
+	 * @param writer         the output writer
+	 * @param input          the input line
+	 * @param interpretation the interpretation
+	 * @param valid          is valid phone number
+	 * @throws IOException if output can not be written
+	 */
+	private void writeLine(Writer writer, String input, String interpretation, boolean valid) throws IOException {
+		writer.write(input);
+		writer.write(SEPARATOR);
+		writer.write(interpretation);
+		writer.write(SEPARATOR);
+		writer.write(valid ? VALID : INVALID);
+		writer.write('\n');
+	}
+
+	/**
+	 * Method to build throughput summary
+	 * 
+	 * @param elapsedNanos the elapsed time in nanoseconds
+	 * @return the throughput summary
+	 */
+	public String getSummary(long elapsedNanos) {
+		final double seconds = Math.max(elapsedNanos, 1) / 1e9;
+
+		return String.format(
+				"Lines: %d (errors: %d), interpretations: %d (valid: %d)%nDone in: %.3f s (%.0f lines/s, %.0f interpretations/s)",
+				lineCount, errorCount, interpretationCount, validCount, seconds, lineCount / seconds,
+				interpretationCount / seconds);
+	}
+
+	/**
+	 * Method to print usage
+	 */
+	private static void printUsage() {
+		System.err.println(
+				"Usage: BatchApplication --input <file> --output <file> [--language ENGLISH|GREEK|RUSSIAN] [--country USA|GREECE|RUSSIA] [--valid-only]");
+	}
+
+	/**
+	 * Entry point of headless Java SNR batch program
+	 * 
+	 * @param args the Java program arguments
+	 */
+	public static void main(String[] args) {
+		SNRLanguage language = SNRLanguage.ENGLISH;
+		SNRCountry country = SNRCountry.GREECE;
+		Path inputPath = null;
+		Path outputPath = null;
+		boolean validOnly = false;
+
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+				case "--language":
+					language = SNRLanguage.valueOf(args[++i]);
+					break;
+				case "--country":
+					country = SNRCountry.valueOf(args[++i]);
+					break;
+				case "--input":
+					inputPath = Paths.get(args[++i]);
+					break;
+				case "--output":
+					outputPath = Paths.get(args[++i]);
+					break;
+				case "--valid-only":
+					validOnly = true;
+					break;
+				default:
+					throw new IllegalArgumentException(String.format("Unknown argument [%s]", args[i]));
+				}
+			}
+		} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+			printUsage();
+			System.exit(1);
+		}
+
+		if (LangHelper.isNull(inputPath) || LangHelper.isNull(outputPath)) {
+			printUsage();
+			System.exit(1);
+		}
+
+		final BatchApplication application = new BatchApplication(language, country, validOnly);
+		final long startNano = System.nanoTime();
+
+		try {
+			application.process(inputPath, outputPath);
+		} catch (IOException ex) {
+			System.err.println(String.format("%s: %s", ex.getClass().getName(), ex.getMessage()));
+			System.exit(1);
+		}
+
+		System.out.println(application.getSummary(System.nanoTime() - startNano));
+	}
+
+}
@@ -1,20 +1,34 @@
 package com.github.kindratsm.snr;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
 import com.github.kindratsm.snr.engines.SNREngine;
+import com.github.kindratsm.snr.engines.SNRSession;
 import com.github.kindratsm.snr.enums.SNRCountry;
 import com.github.kindratsm.snr.enums.SNRLanguage;
+import com.github.kindratsm.snr.helpers.LangHelper;
+import com.github.kindratsm.snr.models.SNRLattice;
 import com.github.kindratsm.snr.models.SNRPhoneNumber;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableRow;
 import javafx.scene.control.TableView;
@@ -31,6 +45,125 @@ import javafx.stage.Stage;
  */
 public class MainApplication extends Application {
 
+	/**
+	 * Max time between pushes of results to output table
+	 */
+	private static final long BATCH_INTERVAL_NANOS = 100_000_000L;
+
+	/**
+	 * Max amount of results pushed to output table at once
+	 */
+	private static final int BATCH_SIZE = 10_000;
+
+	/**
+	 * Incremental recognition session of input field
+	 */
+	private final SNRSession session = SNREngine.getInstance(SNRLanguage.ENGLISH).createSession();
+
+	/**
+	 * Background executor of recognition tasks
+	 */
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		final Thread thread = new Thread(runnable, "snr-recognition");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Current recognition task, accessed on JavaFX application thread only
+	 */
+	private Task<Long> task;
+
+	/**
+	 * Background task which counts and builds phone numbers interpretations and
+	 * pushes them to output in throttled batches
+	 */
+	private static class RecognitionTask extends Task<Long> {
+
+		private final SNRLattice lattice;
+		private final Iterator<String> iterator;
+		private final Consumer<BigInteger> totalConsumer;
+		private final SNRCountry country;
+		private final ObservableList<SNRPhoneNumber> output;
+
+		/**
+		 * Recognition task constructor
+		 * 
+		 * @param lattice       the SNR lattice of input
+		 * @param iterator      the iterator over number interpretations
+		 * @param totalConsumer the consumer of interpretation count, called on JavaFX
+		 *                      application thread
+		 * @param country       the country
+		 * @param output        the output observable list
+		 */
+		private RecognitionTask(SNRLattice lattice, Iterator<String> iterator, Consumer<BigInteger> totalConsumer,
+				SNRCountry country, ObservableList<SNRPhoneNumber> output) {
+			this.lattice = lattice;
+			this.iterator = iterator;
+			this.totalConsumer = totalConsumer;
+			this.country = country;
+			this.output = output;
+		}
+
+		@Override
+		protected Long call() {
+			// Paths of lattice are distinct, so count is a product of layer sizes
+			final BigInteger count = lattice.isEmpty() ? BigInteger.ZERO : lattice.getPathCount();
+			final double total = count.doubleValue();
+
+			Platform.runLater(() -> {
+				if (!isCancelled()) {
+					totalConsumer.accept(count);
+				}
+			});
+
+			List<SNRPhoneNumber> batch = new ArrayList<>();
+			long batchNano = System.nanoTime();
+			long produced = 0;
+
+			while (iterator.hasNext()) {
+				if (isCancelled()) {
+					return produced;
+				}
+
+				batch.add(new SNRPhoneNumber(country, iterator.next()));
+				produced++;
+
+				if (batch.size() >= BATCH_SIZE || System.nanoTime() - batchNano >= BATCH_INTERVAL_NANOS) {
+					publish(batch);
+					updateProgress(produced, total);
+
+					batch = new ArrayList<>();
+					batchNano = System.nanoTime();
+				}
+			}
+
+			publish(batch);
+			updateProgress(1, 1);
+
+			return produced;
+		}
+
+		/**
+		 * Method to push batch of results to output on JavaFX application thread,
+		 * batch of cancelled task is dropped
+		 * 
+		 * @param batch the batch of results
+		 */
+		private void publish(List<SNRPhoneNumber> batch) {
+			if (batch.isEmpty()) {
+				return;
+			}
+
+			Platform.runLater(() -> {
+				if (!isCancelled()) {
+					output.addAll(batch);
+				}
+			});
+		}
+
+	}
+
 	/**
 	 * Entry point to initialize SNR GUI
 	 */
@@ -43,6 +176,9 @@ public class MainApplication extends Application {
 		final TextArea consoleField = new TextArea();
 		consoleField.setEditable(false);
 
+		// Progress of produced combinations against expected total
+		final ProgressBar progressBar = new ProgressBar(0);
+
 		// Output table
 		final TableColumn<SNRPhoneNumber, SNRCountry> countryColumn = new TableColumn<>("Country");
 		countryColumn.setCellValueFactory(cell -> new SimpleObjectProperty<SNRCountry>(cell.getValue().getCountry()));
@@ -87,7 +223,12 @@ public class MainApplication extends Application {
 		// Recognize button
 		final Button recognizeButton = new Button("Recognize");
 		recognizeButton.setOnAction(event -> {
-			recognize(inputField.textProperty(), outputTable.getItems(), consoleField.textProperty());
+			recognize(inputField.getText(), outputTable.getItems(), consoleField.textProperty(), progressBar);
+		});
+
+		// Recognize input as you type, only changed groups are processed again
+		inputField.textProperty().addListener((observable, oldValue, newValue) -> {
+			recognize(newValue, outputTable.getItems(), consoleField.textProperty(), progressBar);
 		});
 
 		// Top pane
@@ -96,11 +237,16 @@ public class MainApplication extends Application {
 		topPane.setCenter(inputField);
 		topPane.setBottom(recognizeButton);
 
+		// Bottom pane
+		final BorderPane bottomPane = new BorderPane();
+		bottomPane.setTop(progressBar);
+		bottomPane.setCenter(consoleField);
+
 		// Root pane
 		final BorderPane pane = new BorderPane();
 		pane.setTop(topPane);
 		pane.setCenter(outputTable);
-		pane.setBottom(consoleField);
+		pane.setBottom(bottomPane);
 		pane.setPadding(new Insets(5));
 
 		// Create scene
@@ -108,11 +254,13 @@ public class MainApplication extends Application {
 
 		// Bindings
 		recognizeButton.prefWidthProperty().bind(topPane.widthProperty());
+		progressBar.prefWidthProperty().bind(bottomPane.widthProperty());
 
 		// Set alignment and margin
 		BorderPane.setAlignment(topPane.getLeft(), Pos.CENTER_LEFT);
 		BorderPane.setMargin(topPane.getLeft(), new Insets(0, 5, 0, 0));
 		BorderPane.setMargin(recognizeButton, new Insets(5, 0, 5, 0));
+		BorderPane.setMargin(progressBar, new Insets(5, 0, 5, 0));
 
 		// Init stage
 		primaryStage.setScene(scene);
@@ -120,34 +268,76 @@ public class MainApplication extends Application {
 	}
 
 	/**
-	 * Recognize button action
+	 * Recognize action of button and input field, cancels previous recognition
+	 * and starts background recognition task
 	 * 
-	 * @param input   the input string property
-	 * @param output  the output observable list
-	 * @param console the console string property
+	 * @param input    the input
+	 * @param output   the output observable list
+	 * @param console  the console string property
+	 * @param progress the progress bar
 	 */
-	private void recognize(StringProperty input, ObservableList<SNRPhoneNumber> output, StringProperty console) {
+	private void recognize(String input, ObservableList<SNRPhoneNumber> output, StringProperty console,
+			ProgressBar progress) {
+		// Cancel previous recognition
+		if (LangHelper.isNotNull(task)) {
+			task.cancel();
+			task = null;
+		}
+
 		// Clear
 		output.clear();
 		console.setValue("");
+		progress.progressProperty().unbind();
+		progress.setProgress(0);
 
-		final StringBuilder log = new StringBuilder();
 		final long startMillis = System.currentTimeMillis();
 		final long startNano = System.nanoTime();
 
-		// Convert input
+		// Update groups on JavaFX application thread, combinations are counted and built in background
+		final SNRLattice lattice;
+		final Iterator<String> iterator;
 		try {
-			output.addAll(SNREngine.getInstance(SNRLanguage.ENGLISH)
-					.recognize(SNRCountry.GREECE, input.getValue()));
+			session.update(input);
+
+			lattice = session.getLattice();
+			iterator = session.iterate();
 		} catch (Exception ex) {
-			log.append(String.format("%s: %s\n", ex.getClass().getName(), ex.getMessage()));
+			console.setValue(String.format("%s: %s\n", ex.getClass().getName(), ex.getMessage()));
+			return;
 		}
 
-		log.append(String.format("Done in: %d ms (%d ns)",
-				(System.currentTimeMillis() - startMillis),
-				(System.nanoTime() - startNano)));
+		final String groups = String.format("Groups: %d (processed: %d)", session.getGroupCount(),
+				session.getProcessedGroupCount());
+		final StringProperty summary = new SimpleStringProperty(groups + "\n");
+
+		final Task<Long> task = new RecognitionTask(lattice, iterator, total -> {
+			summary.setValue(String.format("%s, interpretations: %s\n", groups, total));
+			console.setValue(summary.getValue());
+		}, SNRCountry.GREECE, output);
+		task.setOnSucceeded(event -> {
+			console.setValue(String.format("%sDone in: %d ms (%d ns)", summary.getValue(),
+					(System.currentTimeMillis() - startMillis),
+					(System.nanoTime() - startNano)));
+		});
+		task.setOnFailed(event -> {
+			final Throwable ex = task.getException();
+			console.setValue(
+					String.format("%s%s: %s\n", summary.getValue(), ex.getClass().getName(), ex.getMessage()));
+		});
+
+		console.setValue(summary.getValue());
+		progress.progressProperty().bind(task.progressProperty());
+
+		this.task = task;
+		executor.execute(task);
+	}
 
-		console.setValue(log.toString());
+	/**
+	 * Method to cancel recognition when application is closed
+	 */
+	@Override
+	public void stop() {
+		executor.shutdownNow();
 	}
 
 	/**
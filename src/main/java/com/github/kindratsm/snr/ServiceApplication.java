@@ -0,0 +1,76 @@
+package com.github.kindratsm.snr;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+import com.github.kindratsm.snr.services.SNRHttpService;
+
+/**
+ * Headless service application which runs SNR HTTP service (e.g. as a sidecar)
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class ServiceApplication {
+
+	/**
+	 * Method to print usage
+	 */
+	private static void printUsage() {
+		System.err.println("Usage: ServiceApplication [--host <host>] [--port <port>] [--threads <threads>]"
+				+ " [--max-limit <limit>]");
+	}
+
+	/**
+	 * Entry point of Java SNR service program
+	 * 
+	 * @param args the Java program arguments
+	 */
+	public static void main(String[] args) {
+		String host = "localhost";
+		int port = 8080;
+		int threads = Runtime.getRuntime().availableProcessors() * 2;
+		int maxLimit = SNRHttpService.DEFAULT_MAX_LIMIT;
+
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+				case "--host":
+					host = args[++i];
+					break;
+				case "--port":
+					port = Integer.parseInt(args[++i]);
+					break;
+				case "--threads":
+					threads = Integer.parseInt(args[++i]);
+					break;
+				case "--max-limit":
+					maxLimit = Integer.parseInt(args[++i]);
+					break;
+				default:
+					throw new IllegalArgumentException(String.format("Unknown argument [%s]", args[i]));
+				}
+			}
+		} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+			printUsage();
+			System.exit(1);
+		}
+
+		final SNRHttpService service;
+		try {
+			service = new SNRHttpService(new InetSocketAddress(host, port),
+					SNRHttpService.createDefaultExecutor(threads), maxLimit);
+		} catch (IOException | IllegalArgumentException ex) {
+			System.err.println(String.format("%s: %s", ex.getClass().getName(), ex.getMessage()));
+			System.exit(1);
+			return;
+		}
+
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> service.stop(1)));
+
+		service.start();
+
+		System.out.println(String.format("SNR service is listening on %s", service.getAddress()));
+	}
+
+}
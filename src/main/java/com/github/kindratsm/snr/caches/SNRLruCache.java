@@ -0,0 +1,207 @@
+package com.github.kindratsm.snr.caches;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.github.kindratsm.snr.helpers.LangHelper;
+
+/**
+ * SNR LRU Cache, bounded thread-safe cache with least recently used eviction.
+ * Cache is split to segments, each segment has own lock and own part of
+ * capacity, so concurrent readers of different keys rarely contend
+ * 
+ * @author Stanislav Kindrat
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class SNRLruCache<K, V> {
+
+	private static final int SEGMENTS_COUNT = 16;
+
+	private final int capacity;
+	private final Segment<K, V>[] segments;
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	/**
+	 * Cache segment with access ordered entries
+	 * 
+	 * @param <K> the key type
+	 * @param <V> the value type
+	 */
+	private static class Segment<K, V> extends LinkedHashMap<K, V> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int capacity;
+
+		/**
+		 * Cache segment constructor based on capacity
+		 * 
+		 * @param capacity the capacity
+		 */
+		private Segment(int capacity) {
+			super(16, 0.75f, true);
+
+			this.capacity = capacity;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			return size() > capacity;
+		}
+
+	}
+
+	/**
+	 * SNR LRU Cache constructor based on capacity
+	 * 
+	 * @param capacity the maximum amount of cached entries
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public SNRLruCache(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException();
+		}
+
+		this.capacity = capacity;
+		this.segments = new Segment[SEGMENTS_COUNT];
+
+		final int segmentCapacity = Math.max(1, capacity / SEGMENTS_COUNT);
+		for (int i = 0; i < SEGMENTS_COUNT; i++) {
+			segments[i] = new Segment<>(segmentCapacity);
+		}
+	}
+
+	/**
+	 * Method to get segment based on key hash
+	 * 
+	 * @param key the key
+	 * @return the cache segment
+	 */
+	private Segment<K, V> segmentFor(Object key) {
+		int hash = key.hashCode();
+		hash ^= (hash >>> 16);
+
+		return segments[hash & (SEGMENTS_COUNT - 1)];
+	}
+
+	/**
+	 * Method to get cached value
+	 * 
+	 * @param key the key
+	 * @return cached value or null if absent
+	 */
+	public V get(K key) {
+		LangHelper.notNull(key);
+
+		final Segment<K, V> segment = segmentFor(key);
+		final V value;
+		synchronized (segment) {
+			value = segment.get(key);
+		}
+
+		if (LangHelper.isNull(value)) {
+			missCount.increment();
+		} else {
+			hitCount.increment();
+		}
+
+		return value;
+	}
+
+	/**
+	 * Method to put value to cache
+	 * 
+	 * @param key   the key
+	 * @param value the value
+	 */
+	public void put(K key, V value) {
+		LangHelper.notNull(key);
+		LangHelper.notNull(value);
+
+		final Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			segment.put(key, value);
+		}
+	}
+
+	/**
+	 * Method to get cached value or compute and cache it if absent. Value is
+	 * computed outside of segment lock, so mapping function may use the cache
+	 * recursively
+	 * 
+	 * @param key             the key
+	 * @param mappingFunction the function to compute value
+	 * @return cached or computed value
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		LangHelper.notNull(mappingFunction);
+
+		V value = get(key);
+		if (LangHelper.isNull(value)) {
+			value = mappingFunction.apply(key);
+			put(key, value);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Method to remove all cached values
+	 */
+	public void clear() {
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	/**
+	 * Size getter
+	 * 
+	 * @return the amount of cached entries
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+
+		return size;
+	}
+
+	/**
+	 * Capacity getter
+	 * 
+	 * @return the maximum amount of cached entries
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Hit count getter
+	 * 
+	 * @return the amount of cache hits
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * Miss count getter
+	 * 
+	 * @return the amount of cache misses
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+}
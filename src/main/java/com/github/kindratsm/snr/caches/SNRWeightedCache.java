@@ -0,0 +1,322 @@
+package com.github.kindratsm.snr.caches;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+import com.github.kindratsm.snr.helpers.LangHelper;
+
+/**
+ * SNR Weighted Cache, bounded thread-safe cache with least recently used
+ * eviction by total weight of values and optional time to live. Cache is split
+ * to segments, each segment has own lock and own part of max weight, value
+ * heavier than segment max weight is not cached at all, so one heavy value can
+ * not evict many light values
+ * 
+ * @author Stanislav Kindrat
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class SNRWeightedCache<K, V> {
+
+	private static final int SEGMENTS_COUNT = 16;
+
+	private final long maxWeight;
+	private final long ttlNanos;
+	private final ToIntFunction<? super V> weigher;
+	private final LongSupplier ticker;
+	private final Segment<K, V>[] segments;
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * Cache entry with weight and expiration time
+	 * 
+	 * @param <V> the value type
+	 */
+	private static class Entry<V> {
+
+		private final V value;
+		private final int weight;
+		private final long expireNanos;
+
+		/**
+		 * Cache entry constructor
+		 * 
+		 * @param value       the value
+		 * @param weight      the value weight
+		 * @param expireNanos the expiration time in nanoseconds
+		 */
+		private Entry(V value, int weight, long expireNanos) {
+			this.value = value;
+			this.weight = weight;
+			this.expireNanos = expireNanos;
+		}
+
+	}
+
+	/**
+	 * Cache segment with access ordered entries and total weight
+	 * 
+	 * @param <K> the key type
+	 * @param <V> the value type
+	 */
+	private static class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private long weight;
+
+		/**
+		 * Cache segment constructor
+		 */
+		private Segment() {
+			super(16, 0.75f, true);
+		}
+
+	}
+
+	/**
+	 * SNR Weighted Cache constructor
+	 * 
+	 * @param maxWeight the maximum total weight of cached values
+	 * @param ttlNanos  the time to live of cached value in nanoseconds or zero if
+	 *                  values do not expire
+	 * @param weigher   the function to compute value weight
+	 */
+	public SNRWeightedCache(long maxWeight, long ttlNanos, ToIntFunction<? super V> weigher) {
+		this(maxWeight, ttlNanos, weigher, System::nanoTime);
+	}
+
+	/**
+	 * SNR Weighted Cache constructor with custom time source
+	 * 
+	 * @param maxWeight the maximum total weight of cached values
+	 * @param ttlNanos  the time to live of cached value in nanoseconds or zero if
+	 *                  values do not expire
+	 * @param weigher   the function to compute value weight
+	 * @param ticker    the time source in nanoseconds
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	SNRWeightedCache(long maxWeight, long ttlNanos, ToIntFunction<? super V> weigher, LongSupplier ticker) {
+		LangHelper.notNull(weigher);
+		LangHelper.notNull(ticker);
+
+		if (maxWeight <= 0 || ttlNanos < 0) {
+			throw new IllegalArgumentException();
+		}
+
+		this.maxWeight = maxWeight;
+		this.ttlNanos = ttlNanos;
+		this.weigher = weigher;
+		this.ticker = ticker;
+		this.segments = new Segment[SEGMENTS_COUNT];
+
+		for (int i = 0; i < SEGMENTS_COUNT; i++) {
+			segments[i] = new Segment<>();
+		}
+	}
+
+	/**
+	 * Method to get segment based on key hash
+	 * 
+	 * @param key the key
+	 * @return the cache segment
+	 */
+	private Segment<K, V> segmentFor(Object key) {
+		int hash = key.hashCode();
+		hash ^= (hash >>> 16);
+
+		return segments[hash & (SEGMENTS_COUNT - 1)];
+	}
+
+	/**
+	 * Segment max weight getter
+	 * 
+	 * @return the maximum total weight of values in single segment
+	 */
+	private long getSegmentMaxWeight() {
+		return Math.max(1, maxWeight / SEGMENTS_COUNT);
+	}
+
+	/**
+	 * Method to get cached value, expired value is removed
+	 * 
+	 * @param key the key
+	 * @return cached value or null if absent or expired
+	 */
+	public V get(K key) {
+		LangHelper.notNull(key);
+
+		final Segment<K, V> segment = segmentFor(key);
+		V value = null;
+		synchronized (segment) {
+			final Entry<V> entry = segment.get(key);
+			if (LangHelper.isNotNull(entry)) {
+				if (ttlNanos > 0 && ticker.getAsLong() - entry.expireNanos >= 0) {
+					segment.remove(key);
+					segment.weight -= entry.weight;
+				} else {
+					value = entry.value;
+				}
+			}
+		}
+
+		if (LangHelper.isNull(value)) {
+			missCount.increment();
+		} else {
+			hitCount.increment();
+		}
+
+		return value;
+	}
+
+	/**
+	 * Method to put value to cache, least recently used values are evicted until
+	 * segment weight fits to segment max weight
+	 * 
+	 * @param key   the key
+	 * @param value the value
+	 * @return does value is cached
+	 */
+	public boolean put(K key, V value) {
+		LangHelper.notNull(key);
+		LangHelper.notNull(value);
+
+		final int weight = Math.max(1, weigher.applyAsInt(value));
+		final long segmentMaxWeight = getSegmentMaxWeight();
+		if (weight > segmentMaxWeight) {
+			return false;
+		}
+
+		final Entry<V> entry = new Entry<>(value, weight, ticker.getAsLong() + ttlNanos);
+		final Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			final Entry<V> previous = segment.put(key, entry);
+			if (LangHelper.isNotNull(previous)) {
+				segment.weight -= previous.weight;
+			}
+			segment.weight += weight;
+
+			// Evict least recently used entries, new entry is the most recently used
+			final Iterator<Entry<V>> iterator = segment.values().iterator();
+			while (segment.weight > segmentMaxWeight) {
+				final Entry<V> eldest = iterator.next();
+				iterator.remove();
+				segment.weight -= eldest.weight;
+				evictionCount.increment();
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Method to remove all cached values
+	 */
+	public void clear() {
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+				segment.weight = 0;
+			}
+		}
+	}
+
+	/**
+	 * Size getter
+	 * 
+	 * @return the amount of cached entries including not yet removed expired
+	 *         entries
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+
+		return size;
+	}
+
+	/**
+	 * Weight getter
+	 * 
+	 * @return the total weight of cached values
+	 */
+	public long getWeight() {
+		long weight = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				weight += segment.weight;
+			}
+		}
+
+		return weight;
+	}
+
+	/**
+	 * Max weight getter
+	 * 
+	 * @return the maximum total weight of cached values
+	 */
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+
+	/**
+	 * TTL getter
+	 * 
+	 * @return the time to live of cached value in nanoseconds or zero if values do
+	 *         not expire
+	 */
+	public long getTtlNanos() {
+		return ttlNanos;
+	}
+
+	/**
+	 * Hit count getter
+	 * 
+	 * @return the amount of cache hits
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * Miss count getter
+	 * 
+	 * @return the amount of cache misses
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * Eviction count getter
+	 * 
+	 * @return the amount of values evicted by weight
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * Hit ratio getter
+	 * 
+	 * @return the ratio of cache hits to cache requests or zero if cache was not
+	 *         requested
+	 */
+	public double getHitRatio() {
+		final long hits = getHitCount();
+		final long requests = hits + getMissCount();
+
+		return requests == 0 ? 0 : (double) hits / requests;
+	}
+
+}
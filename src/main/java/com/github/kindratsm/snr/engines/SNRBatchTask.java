@@ -0,0 +1,79 @@
+package com.github.kindratsm.snr.engines;
+
+import java.util.concurrent.RecursiveAction;
+
+import com.github.kindratsm.snr.enums.SNRCountry;
+import com.github.kindratsm.snr.helpers.LangHelper;
+import com.github.kindratsm.snr.models.SNRBatchResult;
+
+/**
+ * SNR Batch Task which recognizes range of inputs, splitting range in halves
+ * until it is small enough to be recognized sequentially
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+class SNRBatchTask extends RecursiveAction {
+
+	private static final long serialVersionUID = 1L;
+
+	private final SNREngine engine;
+	private final SNRCountry country;
+	private final String[] inputs;
+	private final SNRBatchResult[] results;
+	private final int from;
+	private final int to;
+	private final int threshold;
+
+	/**
+	 * SNR Batch Task constructor
+	 * 
+	 * @param engine    the SNR engine
+	 * @param country   the country
+	 * @param inputs    the array of inputs
+	 * @param results   the array of results in input order
+	 * @param from      the first input index (inclusive)
+	 * @param to        the last input index (exclusive)
+	 * @param threshold the max amount of inputs recognized sequentially
+	 */
+	SNRBatchTask(SNREngine engine, SNRCountry country, String[] inputs, SNRBatchResult[] results, int from, int to,
+			int threshold) {
+		this.engine = engine;
+		this.country = country;
+		this.inputs = inputs;
+		this.results = results;
+		this.from = from;
+		this.to = to;
+		this.threshold = threshold;
+	}
+
+	@Override
+	protected void compute() {
+		if (to - from <= threshold) {
+			for (int i = from; i < to; i++) {
+				results[i] = recognize(inputs[i]);
+			}
+		} else {
+			final int middle = (from + to) >>> 1;
+			invokeAll(new SNRBatchTask(engine, country, inputs, results, from, middle, threshold),
+					new SNRBatchTask(engine, country, inputs, results, middle, to, threshold));
+		}
+	}
+
+	/**
+	 * Method to recognize single input without aborting the batch on failure
+	 * 
+	 * @param input the input
+	 * @return the batch result
+	 */
+	private SNRBatchResult recognize(String input) {
+		try {
+			LangHelper.notNull(input);
+
+			return new SNRBatchResult(input, engine.recognize(country, input));
+		} catch (RuntimeException ex) {
+			return new SNRBatchResult(input, ex);
+		}
+	}
+
+}
@@ -1,17 +1,36 @@
 package com.github.kindratsm.snr.engines;
 
-import java.util.HashSet;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import com.github.kindratsm.snr.caches.SNRLruCache;
+import com.github.kindratsm.snr.caches.SNRWeightedCache;
 import com.github.kindratsm.snr.enums.SNRCountry;
+import com.github.kindratsm.snr.enums.SNRGroupType;
 import com.github.kindratsm.snr.enums.SNRLanguage;
+import com.github.kindratsm.snr.flows.SNRFlow;
 import com.github.kindratsm.snr.helpers.LangHelper;
 import com.github.kindratsm.snr.helpers.SNRHelper;
+import com.github.kindratsm.snr.metrics.SNRMetrics;
+import com.github.kindratsm.snr.models.SNRBatchResult;
 import com.github.kindratsm.snr.models.SNRGroup;
+import com.github.kindratsm.snr.models.SNRLattice;
+import com.github.kindratsm.snr.models.SNRNumberArray;
 import com.github.kindratsm.snr.models.SNRPhoneNumber;
-import com.github.kindratsm.snr.models.SNRTreeItem;
+import com.github.kindratsm.snr.models.SNRResult;
+import com.github.kindratsm.snr.models.SNRScoreModel;
 
 /**
  * String Number Recognition (SNR) Engine Contain logic how to recognize
@@ -24,15 +43,299 @@ public class SNREngine {
 
 	private static final Map<SNRLanguage, SNREngine> SNR_ENGINE_CACHE = new ConcurrentHashMap<>();
 
+	private static final int GROUP_CACHE_CAPACITY = Integer.getInteger("snr.groupCacheCapacity", 8192);
+
+	private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+
+	private static final int SHORT_GROUP_DIGITS = Math.max(0,
+			Math.min(SNRGroupTable.MAX_DIGITS, Integer.getInteger("snr.shortGroupDigits", 4)));
+
 	private final SNRLanguage language;
 
 	/**
-	 * SNR Engine internal constructor based on language
+	 * Table of complex group interpretations of every short group, built once
+	 */
+	private final SNRGroupTable shortGroupTable = new SNRGroupTable(SHORT_GROUP_DIGITS);
+
+	/**
+	 * Cache of complex group interpretations, shared interpretation arrays must not
+	 * be modified
+	 */
+	private final SNRLruCache<String, String[]> complexGroupCache = new SNRLruCache<>(GROUP_CACHE_CAPACITY);
+
+	/**
+	 * Cache of modulus group interpretations per next group, shared
+	 * interpretation arrays must not be modified
+	 */
+	private final SNRLruCache<String, SNRModulusGroup> modulusGroupCache = new SNRLruCache<>(GROUP_CACHE_CAPACITY);
+
+	/**
+	 * Optional cache of whole input results weighted by amount of
+	 * interpretations, null if disabled
+	 */
+	private volatile SNRWeightedCache<ResultKey, Object[]> resultCache;
+
+	/**
+	 * Result cache key, number interpretations and phone numbers interpretations
+	 * of the same input are kept apart by country
+	 */
+	private static final class ResultKey {
+
+		private final SNRCountry country;
+		private final String input;
+
+		/**
+		 * Result key constructor
+		 * 
+		 * @param country the country of phone numbers or null for number
+		 *                interpretations
+		 * @param input   the normalized input
+		 */
+		private ResultKey(SNRCountry country, String input) {
+			this.country = country;
+			this.input = input;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ResultKey)) {
+				return false;
+			}
+
+			final ResultKey other = (ResultKey) obj;
+
+			return country == other.country && input.equals(other.input);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (LangHelper.isNull(country) ? 0 : country.hashCode()) + input.hashCode();
+		}
+
+	}
+
+	/**
+	 * Score model of ranked recognition
+	 */
+	private volatile SNRScoreModel scoreModel = SNRScoreModel.DEFAULT;
+
+	/**
+	 * Metrics of recognition pipeline, null if metrics are disabled
+	 */
+	private final SNRMetrics metrics;
+
+	/**
+	 * SNR Engine internal constructor based on language, short group table is
+	 * built and metrics are registered as platform MBean per language
 	 * 
 	 * @param language the language
 	 */
 	private SNREngine(SNRLanguage language) {
 		this.language = language;
+
+		shortGroupTable.build(this::buildComplexGroup);
+
+		if (SNRMetrics.ENABLED) {
+			this.metrics = new SNRMetrics(this::getGroupCacheHitCount, this::getGroupCacheMissCount,
+					this::getResultCacheHitCount, this::getResultCacheMissCount);
+			this.metrics.setShortGroupTable(shortGroupTable.getBuildNanos(), shortGroupTable.getMemoryBytes());
+			this.metrics.register(language);
+		} else {
+			this.metrics = null;
+		}
+	}
+
+	/**
+	 * Metrics getter
+	 * 
+	 * @return the metrics of recognition pipeline or null if metrics are disabled
+	 */
+	public SNRMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Group cache hit count getter
+	 * 
+	 * @return the amount of complex and modulus group cache hits
+	 */
+	public long getGroupCacheHitCount() {
+		return complexGroupCache.getHitCount() + modulusGroupCache.getHitCount();
+	}
+
+	/**
+	 * Group cache miss count getter
+	 * 
+	 * @return the amount of complex and modulus group cache misses
+	 */
+	public long getGroupCacheMissCount() {
+		return complexGroupCache.getMissCount() + modulusGroupCache.getMissCount();
+	}
+
+	/**
+	 * Short group table digits getter
+	 * 
+	 * @return the max amount of digits of groups in short group table
+	 */
+	public int getShortGroupTableDigits() {
+		return shortGroupTable.getDigits();
+	}
+
+	/**
+	 * Short group table build time getter
+	 * 
+	 * @return the time of short group table build in nanoseconds
+	 */
+	public long getShortGroupTableBuildNanos() {
+		return shortGroupTable.getBuildNanos();
+	}
+
+	/**
+	 * Short group table memory getter
+	 * 
+	 * @return the estimated memory footprint of short group table in bytes
+	 */
+	public long getShortGroupTableBytes() {
+		return shortGroupTable.getMemoryBytes();
+	}
+
+	/**
+	 * Method to remove all cached complex and modulus group interpretations
+	 */
+	public void clearGroupCache() {
+		complexGroupCache.clear();
+		modulusGroupCache.clear();
+	}
+
+	/**
+	 * Score model getter
+	 * 
+	 * @return the score model of ranked recognition
+	 */
+	public SNRScoreModel getScoreModel() {
+		return scoreModel;
+	}
+
+	/**
+	 * Score model setter, score model is configured per engine (e.g. per language)
+	 * 
+	 * @param scoreModel the score model of ranked recognition
+	 */
+	public void setScoreModel(SNRScoreModel scoreModel) {
+		LangHelper.notNull(scoreModel);
+
+		this.scoreModel = scoreModel;
+	}
+
+	/**
+	 * Method to enable whole input result cache, results of
+	 * {@link #recognize(String)} and {@link #recognize(SNRCountry, String)} are
+	 * cached by country and normalized input. Previous result cache is dropped
+	 * 
+	 * @param maxInterpretations the maximum total amount of cached interpretations
+	 * @param ttl                the time to live of cached result or zero if
+	 *                           results do not expire
+	 * @param unit               the time unit of ttl
+	 */
+	public void enableResultCache(long maxInterpretations, long ttl, TimeUnit unit) {
+		LangHelper.notNull(unit);
+
+		resultCache = new SNRWeightedCache<>(maxInterpretations, unit.toNanos(ttl), result -> result.length);
+	}
+
+	/**
+	 * Method to disable whole input result cache
+	 */
+	public void disableResultCache() {
+		resultCache = null;
+	}
+
+	/**
+	 * Result cache enabled getter
+	 * 
+	 * @return does whole input result cache is enabled
+	 */
+	public boolean isResultCacheEnabled() {
+		return LangHelper.isNotNull(resultCache);
+	}
+
+	/**
+	 * Result cache hit count getter
+	 * 
+	 * @return the amount of result cache hits or zero if result cache is disabled
+	 */
+	public long getResultCacheHitCount() {
+		final SNRWeightedCache<ResultKey, Object[]> cache = resultCache;
+
+		return LangHelper.isNull(cache) ? 0 : cache.getHitCount();
+	}
+
+	/**
+	 * Result cache miss count getter
+	 * 
+	 * @return the amount of result cache misses or zero if result cache is
+	 *         disabled
+	 */
+	public long getResultCacheMissCount() {
+		final SNRWeightedCache<ResultKey, Object[]> cache = resultCache;
+
+		return LangHelper.isNull(cache) ? 0 : cache.getMissCount();
+	}
+
+	/**
+	 * Result cache hit ratio getter
+	 * 
+	 * @return the ratio of result cache hits to requests or zero if result cache
+	 *         is disabled
+	 */
+	public double getResultCacheHitRatio() {
+		final SNRWeightedCache<ResultKey, Object[]> cache = resultCache;
+
+		return LangHelper.isNull(cache) ? 0 : cache.getHitRatio();
+	}
+
+	/**
+	 * Method to get result from result cache or recognize and cache it, cached
+	 * arrays are never returned to caller, so they can not be modified. Invalid
+	 * input is not looked up, it is rejected by recognizer. Request served by
+	 * result cache is recorded to metrics without stages
+	 * 
+	 * @param <T>        the interpretation type
+	 * @param cache      the result cache
+	 * @param country    the country of phone numbers or null for number
+	 *                   interpretations
+	 * @param input      the input
+	 * @param type       the result array type
+	 * @param recognizer the function to recognize result
+	 * @return the possible interpretations or null
+	 */
+	private <T> T[] recognizeCached(SNRWeightedCache<ResultKey, Object[]> cache, SNRCountry country, String input,
+			Class<T[]> type, Supplier<T[]> recognizer) {
+		final String normalizedInput = SNRHelper.normalizeInput(input);
+		if (!SNRHelper.isValidInput(normalizedInput)) {
+			return recognizer.get();
+		}
+
+		final ResultKey key = new ResultKey(country, normalizedInput);
+
+		final T[] cached = type.cast(cache.get(key));
+		if (LangHelper.isNotNull(cached)) {
+			if (SNRMetrics.ENABLED) {
+				metrics.addRequest();
+			}
+
+			return cached.clone();
+		}
+
+		final T[] output = recognizer.get();
+		if (LangHelper.isNotNull(output)) {
+			cache.put(key, output.clone());
+		}
+
+		return output;
 	}
 
 	/**
@@ -43,7 +346,7 @@ public class SNREngine {
 	 * @param index  the current SNR group index
 	 * @return array of possible number interpretations on current SNR group
 	 */
-	private String[] processGroup(SNRGroup[] groups, int index) {
+	String[] processGroup(SNRGroup[] groups, int index) {
 		LangHelper.notNull(groups);
 		LangHelper.inRange(groups, index);
 
@@ -52,11 +355,15 @@ public class SNREngine {
 
 		LangHelper.notNull(currentGroup);
 
-		if (currentGroup.getInput().length() == 1 || SNRHelper.isZerosInput(currentGroup.getInput())) {
-			return new String[] { currentGroup.getInput() };
-		} else if (SNRHelper.isModulusInput(currentGroup.getInput())) {
+		switch (currentGroup.getType()) {
+		case SINGLE_NUMBER:
+		case ZEROS:
+			// Short group is taken from short group table as it has the only interpretation
+			final String[] items = shortGroupTable.get(currentGroup.getInput());
+			return LangHelper.isNotNull(items) ? items : new String[] { currentGroup.getInput() };
+		case MODULUS:
 			return processModulusGroup(groups, index, currentGroup);
-		} else {
+		default:
 			return processComplexGroup(currentGroup.getInput());
 		}
 	}
@@ -64,7 +371,8 @@ public class SNREngine {
 	/**
 	 * Method to process modulus group (e.g. 10, 2000, 3330) First step: process
 	 * modulus group as complex group Second step: build a set of possible modulus
-	 * interpretations based on next group
+	 * interpretations based on next group. Results are cached by modulus group and
+	 * kept per next group length and value
 	 * 
 	 * @param groups       the SNR groups array
 	 * @param index        the current SNR group index
@@ -76,11 +384,6 @@ public class SNREngine {
 		LangHelper.inRange(groups, index);
 		LangHelper.notNull(currentGroup);
 
-		// Process modulus group as complex group
-		final String[] modulusItems = processComplexGroup(currentGroup.getInput());
-
-		final Set<String> items = new HashSet<>();
-
 		// Get next group if exists
 		final int nextIndex = index + 1;
 		final SNRGroup nextGroup;
@@ -90,142 +393,277 @@ public class SNREngine {
 			nextGroup = null;
 		}
 
-		final boolean hasNextGroup = LangHelper.isNotNull(nextGroup) && !SNRHelper.isZerosInput(nextGroup.getInput());
+		final boolean hasNextGroup = LangHelper.isNotNull(nextGroup) && nextGroup.getType() != SNRGroupType.ZEROS;
 
-		for (String modulus : modulusItems) {
-			items.add(modulus);
+		final SNRModulusGroup modulusGroup = modulusGroupCache.computeIfAbsent(currentGroup.getInput(),
+				key -> new SNRModulusGroup(processComplexGroup(key), language));
 
-			// Check does modulus have other possible interpretations based on next group
-			if (hasNextGroup) {
-				final int modulusLength = modulus.length();
-				final int nextGroupLength = nextGroup.getInput().length();
-				final int zerosCount = SNRHelper.countTrailingZeros(modulus);
-				if (zerosCount >= nextGroupLength) {
-					final String extraItem = modulus.substring(0,
-							modulusLength - Math.min(zerosCount, nextGroupLength));
-					final int value = Integer.parseInt(String.format("%s%s", extraItem, nextGroup.getInput()));
+		return modulusGroup.get(hasNextGroup ? nextGroup.getArray() : null);
+	}
 
-					// Check modulus limit
-					// e.g. in English pronounce 15 can be interpreted only as 15
-					// while in Greek pronounce 15 can be interpreted as 15 and 10 5
-					if (value > language.getLimit()) {
-						items.add(extraItem);
-					}
-				}
+	/**
+	 * Method to process complex group (e.g. 35, 305, 1025) Short groups are taken
+	 * from short group table, results of longer groups are cached by complex group
+	 * input
+	 * 
+	 * @param input the complex group input
+	 * @return possible number interpretations for complex group
+	 */
+	private String[] processComplexGroup(String input) {
+		return processComplexGroup(input, 0);
+	}
+
+	/**
+	 * Method to process suffix of complex group, suffix is not copied if it is
+	 * taken from short group table
+	 * 
+	 * @param input the complex group input
+	 * @param from  the first index of suffix
+	 * @return possible number interpretations for suffix of complex group
+	 */
+	private String[] processComplexGroup(String input, int from) {
+		LangHelper.notNull(input);
+
+		final String[] items = shortGroupTable.get(input, from);
+		if (LangHelper.isNotNull(items)) {
+			return items;
+		}
+
+		return complexGroupCache.computeIfAbsent(from == 0 ? input : input.substring(from), this::buildComplexGroup);
+	}
+
+	/**
+	 * Method to check does suffix of complex group has no interpretations (e.g.
+	 * suffix is zeros or single number with leading zeros)
+	 * 
+	 * @param input the complex group input
+	 * @param from  the first index of suffix
+	 * @return does suffix has no interpretations
+	 */
+	private static boolean isSkippedSuffix(String input, int from) {
+		final int length = input.length();
+
+		int i = from;
+		while (i < length && input.charAt(i) == '0') {
+			i++;
+		}
+
+		if (i == from) {
+			return false;
+		} else if (i == length) {
+			return true;
+		}
+
+		for (; i < length; i++) {
+			if (input.charAt(i) == '0') {
+				return false;
 			}
 		}
 
-		return items.toArray(new String[items.size()]);
+		return true;
 	}
 
 	/**
-	 * Method to process complex group (e.g. 35, 305, 1025)
+	 * Method to get per-thread buffer of provided capacity
+	 * 
+	 * @param capacity the capacity
+	 * @return the buffer
+	 */
+	private static char[] getBuffer(int capacity) {
+		char[] buffer = BUFFER.get();
+		if (buffer.length < capacity) {
+			buffer = new char[Math.max(capacity, buffer.length * 2)];
+			BUFFER.set(buffer);
+		}
+
+		return buffer;
+	}
+
+	/**
+	 * Method to build possible number interpretations for complex group. Every
+	 * split to prefix with trailing zeros and suffix builds interpretations (e.g.
+	 * 25 is 25 and 205), splits of inner zeros may build the same interpretation
 	 * 
 	 * @param input the complex group input
 	 * @return possible number interpretations for complex group
 	 */
-	private String[] processComplexGroup(String input) {
+	private String[] buildComplexGroup(String input) {
 		LangHelper.notNull(input);
 
-		final Set<String> items = new HashSet<String>();
-		items.add(input);
-
 		// Check input limit
 		// e.g. in English pronounce 15 can be interpreted only as 15
 		// while in Greek pronounce 15 can be interpreted as 15 and 10 5
-		final int value = Integer.parseInt(input);
-		if (value > language.getLimit()) {
-			final int length = input.length();
-			for (int i = length - 1; i > 0; i--) {
-				String prefix = SNRHelper.addTrailingZeros(input.substring(0, i), length - i);
-				String suffix = input.substring(i);
-
-				if (SNRHelper.isZerosInput(suffix) || SNRHelper.hasLeadingZeros(suffix)) {
-					continue;
-				} else if (suffix.length() == 1) {
-					// Suffix is single number
-					items.add(String.format("%s%s", prefix, suffix));
-				} else {
-					// Suffix is complex group
-					String[] subItems = processComplexGroup(suffix);
-					for (String subItem : subItems) {
-						items.add(String.format("%s%s", prefix, subItem));
-					}
+		final int length = input.length();
+		final char[] digits = getBuffer(length);
+		input.getChars(0, length, digits, 0);
+		if (!language.isAboveLimit(digits, 0, length)) {
+			return new String[] { input };
+		}
+
+		// Process suffixes before buffer is used, since suffixes may be built recursively
+		final String[][] suffixItems = new String[length][];
+		int count = 1;
+		int maxLength = 0;
+		for (int i = length - 1; i > 0; i--) {
+			if (!isSkippedSuffix(input, i)) {
+				suffixItems[i] = processComplexGroup(input, i);
+				count += suffixItems[i].length;
+
+				for (String suffixItem : suffixItems[i]) {
+					maxLength = Math.max(maxLength, suffixItem.length());
 				}
 			}
 		}
 
-		return items.toArray(new String[items.size()]);
+		final String[] items = new String[count];
+		items[0] = input;
+
+		final char[] buffer = getBuffer(length + maxLength);
+		int index = 1;
+		for (int i = length - 1; i > 0; i--) {
+			if (LangHelper.isNull(suffixItems[i])) {
+				continue;
+			}
+
+			// Prefix with trailing zeros (e.g. 2 of 25 is 20)
+			input.getChars(0, i, buffer, 0);
+			Arrays.fill(buffer, i, length, '0');
+
+			for (String suffixItem : suffixItems[i]) {
+				suffixItem.getChars(0, suffixItem.length(), buffer, length);
+				items[index++] = new String(buffer, 0, length + suffixItem.length());
+			}
+		}
+
+		// Items are sorted once and kept distinct, so lattice paths are generated in order
+		return SNRLattice.sortDistinct(items);
 	}
 
 	/**
-	 * Method to add children to latest level of SNR tree
+	 * Method to build SNR lattice, every SNR group is processed once to a layer of
+	 * possible number interpretations shared by all paths
 	 * 
-	 * @param item     the SNR tree item
-	 * @param children the array of children
+	 * @param groups  the SNR groups array
+	 * @param builder the SNR lattice builder
+	 * @return the SNR lattice
 	 */
-	private void addChildrenToLatestLevel(SNRTreeItem item, String[] children) {
-		LangHelper.notNull(item);
-		LangHelper.notNull(children);
+	private SNRLattice buildLattice(SNRGroup[] groups, SNRLatticeBuilder builder) {
+		LangHelper.notNull(groups);
 
-		if (item.getChildren().size() > 0) {
-			for (SNRTreeItem child : item.getChildren()) {
-				addChildrenToLatestLevel(child, children);
-			}
-		} else {
-			for (String child : children) {
-				item.addChild(child);
-			}
+		for (int i = 0; i < groups.length; i++) {
+			builder.add(groups[i].getInput(), processGroup(groups, i));
 		}
+
+		return builder.build();
 	}
 
 	/**
-	 * Method to build all possible output combinations
+	 * Method to split input to SNR groups, request and split stage are recorded to
+	 * metrics
 	 * 
-	 * @param combinations the set of combinations
-	 * @param item         the current SNR tree item
-	 * @param combination  the current combination sequence
+	 * @param input the input
+	 * @return the SNR groups array
 	 */
-	private void buildCombinations(Set<String> combinations, SNRTreeItem item, String combination) {
-		LangHelper.notNull(combinations);
-		LangHelper.notNull(item);
+	private SNRGroup[] splitInput(String input) {
+		if (!SNRMetrics.ENABLED) {
+			LangHelper.notNull(input);
 
-		if (LangHelper.isNotNull(item.getInput())) {
-			if (LangHelper.isNull(combination)) {
-				combination = item.getInput();
-			} else {
-				combination += item.getInput();
-			}
+			return SNRHelper.splitInputToGroups(input);
 		}
 
-		if (item.getChildren().size() > 0) {
-			for (SNRTreeItem child : item.getChildren()) {
-				buildCombinations(combinations, child, combination);
-			}
-		} else {
-			combinations.add(combination);
+		metrics.addRequest();
+
+		try {
+			LangHelper.notNull(input);
+
+			final long splitNano = System.nanoTime();
+			final SNRGroup[] groups = SNRHelper.splitInputToGroups(input);
+			metrics.addSplit(groups.length, System.nanoTime() - splitNano);
+
+			return groups;
+		} catch (RuntimeException ex) {
+			metrics.addError();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Method to build SNR lattice of split input, group processing stage is
+	 * recorded to metrics
+	 * 
+	 * @param groups  the SNR groups array
+	 * @param builder the SNR lattice builder
+	 * @return the SNR lattice
+	 */
+	private SNRLattice processGroups(SNRGroup[] groups, SNRLatticeBuilder builder) {
+		if (!SNRMetrics.ENABLED) {
+			return buildLattice(groups, builder);
+		}
+
+		try {
+			final long groupNano = System.nanoTime();
+			final SNRLattice lattice = buildLattice(groups, builder);
+			metrics.addGroupProcessing(lattice.getNodeCount(), System.nanoTime() - groupNano);
+
+			return lattice;
+		} catch (RuntimeException ex) {
+			metrics.addError();
+			throw ex;
 		}
 	}
 
+	/**
+	 * Method to split input to SNR groups and build SNR lattice, request, split and
+	 * group processing stages are recorded to metrics
+	 * 
+	 * @param input the input
+	 * @return the SNR lattice
+	 */
+	private SNRLattice buildLattice(String input) {
+		final SNRGroup[] groups = splitInput(input);
+
+		return processGroups(groups, new SNRLatticeBuilder(groups.length, null));
+	}
+
 	/**
 	 * Method to build array of any possible number interpretations based on SNR
-	 * tree
+	 * lattice, interpretations are in natural order. Paths of built lattice are
+	 * distinct and sorted by construction, so they are neither hashed nor sorted
 	 * 
-	 * @param root the SNR root tree item
-	 * @return array of any possible number interpretations based on SNR tree
+	 * @param lattice the SNR lattice
+	 * @return array of any possible number interpretations based on SNR lattice
 	 */
-	private String[] buildOutput(SNRTreeItem root) {
-		LangHelper.notNull(root);
+	String[] buildOutput(SNRLattice lattice) {
+		LangHelper.notNull(lattice);
 
-		final Set<String> combinations = new HashSet<>();
+		if (lattice.isEmpty()) {
+			return null;
+		}
 
-		buildCombinations(combinations, root, null);
+		int pathCount = 1;
+		for (int layer = 0; layer < lattice.getLayerCount(); layer++) {
+			final long count = (long) pathCount * lattice.getItemCount(layer);
+			if (count > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException(
+						String.format("Too many interpretations [%s]", lattice.getPathCount()));
+			}
+			pathCount = (int) count;
+		}
+
+		final long startNano = SNRMetrics.ENABLED ? System.nanoTime() : 0;
 
-		if (combinations.size() > 0) {
-			return combinations.toArray(new String[combinations.size()]);
+		final String[] combinations = new String[pathCount];
+
+		final Iterator<String> iterator = new SNRInterpretationIterator(lattice);
+		for (int i = 0; i < combinations.length; i++) {
+			combinations[i] = iterator.next();
 		}
 
-		return null;
+		if (SNRMetrics.ENABLED) {
+			metrics.addEnumeration(combinations.length, System.nanoTime() - startNano);
+		}
+
+		return combinations;
 	}
 
 	/**
@@ -233,22 +671,328 @@ public class SNREngine {
 	 * interpretations
 	 * 
 	 * @param input the input
-	 * @return array of any possible number interpretations based on SNR tree
+	 * @return array of any possible number interpretations based on SNR lattice
 	 */
 	public String[] recognize(String input) {
-		LangHelper.notNull(input);
+		final SNRWeightedCache<ResultKey, Object[]> cache = resultCache;
+		if (LangHelper.isNull(cache)) {
+			return buildOutput(buildLattice(input));
+		}
 
-		SNRTreeItem root = new SNRTreeItem();
+		return recognizeCached(cache, null, input, String[].class, () -> buildOutput(buildLattice(input)));
+	}
 
-		SNRGroup[] groups = SNRHelper.splitInputToGroups(input);
-		for (int i = 0; i < groups.length; i++) {
-			final String[] children = processGroup(groups, i);
-			if (LangHelper.isNotNull(children)) {
-				addChildrenToLatestLevel(root, children);
+	/**
+	 * Method to build limited output based on SNR lattice, enumeration stops as
+	 * soon as limit is reached
+	 * 
+	 * @param lattice the SNR lattice
+	 * @param limit   the max amount of interpretations
+	 * @return the first possible number interpretations
+	 */
+	private SNRResult<String> buildOutput(SNRLattice lattice, int limit) {
+		LangHelper.notNull(lattice);
+
+		final long startNano = SNRMetrics.ENABLED ? System.nanoTime() : 0;
+
+		final List<String> combinations = new ArrayList<>();
+
+		final Iterator<String> iterator = new SNRInterpretationIterator(lattice);
+		while (combinations.size() < limit && iterator.hasNext()) {
+			combinations.add(iterator.next());
+		}
+
+		if (SNRMetrics.ENABLED) {
+			metrics.addEnumeration(combinations.size(), System.nanoTime() - startNano);
+		}
+
+		return new SNRResult<>(combinations.toArray(new String[combinations.size()]), iterator.hasNext());
+	}
+
+	/**
+	 * Method to build SNR number array of any possible number interpretations
+	 * based on SNR lattice. Layer items are parsed once, so every interpretation
+	 * is built by arithmetic without string concatenation
+	 * 
+	 * @param lattice the SNR lattice
+	 * @return SNR number array of any possible number interpretations
+	 */
+	private SNRNumberArray buildNumbers(SNRLattice lattice) {
+		LangHelper.notNull(lattice);
+
+		final long startNano = SNRMetrics.ENABLED ? System.nanoTime() : 0;
+
+		// Paths of ordered lattice are distinct, so they are not hashed
+		final SNRNumberSet numbers = new SNRNumberSet(lattice.isOrdered());
+
+		if (!lattice.isEmpty()) {
+			final int layerCount = lattice.getLayerCount();
+			final long[][] itemValues = new long[layerCount][];
+			final int[][] itemLengths = new int[layerCount][];
+			final long[][] itemScales = new long[layerCount][];
+
+			// Parse layer items and check max interpretation length
+			int maxLength = 0;
+			for (int layer = 0; layer < layerCount; layer++) {
+				final int itemCount = lattice.getItemCount(layer);
+				itemValues[layer] = new long[itemCount];
+				itemLengths[layer] = new int[itemCount];
+				itemScales[layer] = new long[itemCount];
+
+				int maxItemLength = 0;
+				for (int i = 0; i < itemCount; i++) {
+					final String item = lattice.getItem(layer, i);
+					maxItemLength = Math.max(maxItemLength, item.length());
+					if (item.length() > SNRNumberArray.MAX_LENGTH) {
+						break;
+					}
+
+					itemValues[layer][i] = Long.parseUnsignedLong(item);
+					itemLengths[layer][i] = item.length();
+					itemScales[layer][i] = 1;
+					for (int j = 0; j < item.length(); j++) {
+						itemScales[layer][i] *= 10;
+					}
+				}
+
+				maxLength += maxItemLength;
+				if (maxLength > SNRNumberArray.MAX_LENGTH) {
+					throw new IllegalArgumentException(
+							String.format("Interpretation is longer than %d digits", SNRNumberArray.MAX_LENGTH));
+				}
+			}
+
+			// Walk over every path (e.g. odometer) keeping value and length per layer
+			final int[] indexes = new int[layerCount];
+			final long[] values = new long[layerCount + 1];
+			final int[] lengths = new int[layerCount + 1];
+			int from = 0;
+			while (from >= 0) {
+				for (int layer = from; layer < layerCount; layer++) {
+					final int index = indexes[layer];
+					values[layer + 1] = values[layer] * itemScales[layer][index] + itemValues[layer][index];
+					lengths[layer + 1] = lengths[layer] + itemLengths[layer][index];
+				}
+
+				numbers.add(values[layerCount], lengths[layerCount]);
+
+				from = layerCount - 1;
+				while (from >= 0 && ++indexes[from] == itemValues[from].length) {
+					indexes[from--] = 0;
+				}
 			}
 		}
 
-		return buildOutput(root);
+		if (SNRMetrics.ENABLED) {
+			metrics.addEnumeration(numbers.size(), System.nanoTime() - startNano);
+		}
+
+		return numbers.toNumberArray();
+	}
+
+	/**
+	 * Method to recognize input and build limited array of possible number
+	 * interpretations, recognition stops as soon as limit is reached
+	 * 
+	 * @param input the input
+	 * @param limit the max amount of interpretations
+	 * @return the first possible number interpretations and does output was
+	 *         truncated
+	 */
+	public SNRResult<String> recognize(String input, int limit) {
+		if (limit < 1) {
+			throw new IllegalArgumentException(String.format("Invalid limit [%d]", limit));
+		}
+
+		return buildOutput(buildLattice(input), limit);
+	}
+
+	/**
+	 * Method to recognize input and lazily iterate over possible number
+	 * interpretations in descending score of engine score model (e.g. 25 before
+	 * 205). Request, split and group processing stages are recorded to metrics,
+	 * ranked enumeration is not
+	 * 
+	 * @param input the input
+	 * @return iterator over possible number interpretations in descending score
+	 */
+	public Iterator<String> iterateRanked(String input) {
+		final SNRGroup[] groups = splitInput(input);
+		final SNRLatticeBuilder builder = new SNRLatticeBuilder(groups.length, scoreModel);
+		final SNRLattice lattice = processGroups(groups, builder);
+
+		return new SNRRankedIterator(lattice, builder.getScores());
+	}
+
+	/**
+	 * Method to recognize input and build limited array of the most likely
+	 * possible number interpretations in descending score, other interpretations
+	 * are not built
+	 * 
+	 * @param input the input
+	 * @param limit the max amount of interpretations
+	 * @return the most likely possible number interpretations and does output was
+	 *         truncated
+	 */
+	public SNRResult<String> recognizeRanked(String input, int limit) {
+		if (limit < 1) {
+			throw new IllegalArgumentException(String.format("Invalid limit [%d]", limit));
+		}
+
+		final Iterator<String> iterator = iterateRanked(input);
+
+		final List<String> combinations = new ArrayList<>();
+		while (combinations.size() < limit && iterator.hasNext()) {
+			combinations.add(iterator.next());
+		}
+
+		return new SNRResult<>(combinations.toArray(new String[combinations.size()]), iterator.hasNext());
+	}
+
+	/**
+	 * Method to recognize input and build compact array of any possible number
+	 * interpretations, every interpretation is encoded as unsigned long value and
+	 * length in digits instead of string
+	 * 
+	 * @param input the input
+	 * @return SNR number array of any possible number interpretations
+	 * @throws IllegalArgumentException if interpretation is longer than 19 digits
+	 */
+	public SNRNumberArray recognizeNumbers(String input) {
+		return buildNumbers(buildLattice(input));
+	}
+
+	/**
+	 * Method to recognize input and get random access to any possible number
+	 * interpretations in natural order (e.g. for pagination), interpretation is
+	 * built only when it is requested
+	 * 
+	 * @param input the input
+	 * @return random access to any possible number interpretations
+	 */
+	public SNRInterpretations interpretations(String input) {
+		return new SNRInterpretations(buildLattice(input));
+	}
+
+	/**
+	 * Method to recognize input and lazily iterate over any possible number
+	 * interpretations. Interpretations are built one at a time from the per group
+	 * interpretations, so memory is bounded by the number of groups. Lazy
+	 * enumeration is not recorded to metrics
+	 * 
+	 * @param input the input
+	 * @return iterator over any possible number interpretations
+	 */
+	public Iterator<String> iterate(String input) {
+		return new SNRInterpretationIterator(buildLattice(input));
+	}
+
+	/**
+	 * Method to recognize input and lazily stream any possible number
+	 * interpretations. Lazy enumeration is not recorded to metrics
+	 * 
+	 * @param input the input
+	 * @return stream of any possible number interpretations
+	 */
+	public Stream<String> stream(String input) {
+		return stream(buildLattice(input), false);
+	}
+
+	/**
+	 * Method to recognize input and publish any possible number interpretations
+	 * on subscriber demand. Input is recognized on executor when subscriber
+	 * requests items first, invalid input is reported to subscriber as error.
+	 * Publishing is not recorded to metrics
+	 * 
+	 * @param input    the input
+	 * @param executor the executor to emit interpretations on
+	 * @return publisher of any possible number interpretations
+	 */
+	public SNRFlow.Publisher<String> publish(String input, Executor executor) {
+		LangHelper.notNull(input);
+
+		return new SNRPublisher<>(() -> iterate(input), executor);
+	}
+
+	/**
+	 * Method to recognize input and lazily stream any possible number
+	 * interpretations in parallel. Interpretation space is split to balanced
+	 * ranges of SNR lattice paths, so a single input uses every core
+	 * 
+	 * @param input the input
+	 * @return parallel stream of any possible number interpretations
+	 */
+	public Stream<String> parallelStream(String input) {
+		return stream(buildLattice(input), true);
+	}
+
+	/**
+	 * Method to stream possible number interpretations of SNR lattice, paths of
+	 * built lattice are distinct, so they are not tracked
+	 * 
+	 * @param lattice  the SNR lattice
+	 * @param parallel does stream is parallel
+	 * @return stream of any possible number interpretations
+	 */
+	private static Stream<String> stream(SNRLattice lattice, boolean parallel) {
+		return StreamSupport.stream(new SNRLatticeSpliterator(lattice), parallel);
+	}
+
+	/**
+	 * Method to recognize input and build array of any possible number
+	 * interpretations in parallel, output is the same as sequential recognize
+	 * 
+	 * @param input the input
+	 * @return array of any possible number interpretations based on SNR lattice
+	 */
+	public String[] recognizeParallel(String input) {
+		final SNRLattice lattice = buildLattice(input);
+
+		final long startNano = SNRMetrics.ENABLED ? System.nanoTime() : 0;
+
+		// Encounter order is kept, so output is sorted
+		final String[] combinations = stream(lattice, true).toArray(String[]::new);
+
+		if (SNRMetrics.ENABLED) {
+			metrics.addEnumeration(combinations.length, System.nanoTime() - startNano);
+		}
+
+		if (combinations.length > 0) {
+			return combinations;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Method to count distinct possible number interpretations of SNR lattice,
+	 * paths of built lattice are distinct, so the count is a product of layer item
+	 * counts
+	 * 
+	 * @param lattice the SNR lattice
+	 * @return count of any possible number interpretations
+	 */
+	BigInteger countInterpretations(SNRLattice lattice) {
+		LangHelper.notNull(lattice);
+
+		if (lattice.isEmpty()) {
+			return BigInteger.ZERO;
+		}
+
+		return lattice.getPathCount();
+	}
+
+	/**
+	 * Method to count any possible number interpretations without building them.
+	 * Every SNR group is processed independently (including modulus look-ahead on
+	 * the next group), so the count is a product of per layer interpretation
+	 * counts, layers which may repeat paths are merged first
+	 * 
+	 * @param input the input
+	 * @return count of any possible number interpretations
+	 */
+	public BigInteger countInterpretations(String input) {
+		return countInterpretations(buildLattice(input));
 	}
 
 	/**
@@ -262,23 +1006,208 @@ public class SNREngine {
 	public SNRPhoneNumber[] recognize(SNRCountry country, String input) {
 		LangHelper.notNull(country);
 
-		// Recognize string combinations
-		String[] combinations = recognize(input);
+		final SNRWeightedCache<ResultKey, Object[]> cache = resultCache;
+		if (LangHelper.isNull(cache)) {
+			// Recognize string combinations
+			return buildPhoneNumbers(country, buildOutput(buildLattice(input)));
+		}
+
+		return recognizeCached(cache, country, input, SNRPhoneNumber[].class,
+				() -> buildPhoneNumbers(country, buildOutput(buildLattice(input))));
+	}
 
+	/**
+	 * Method to build array of phone numbers interpretations based on number
+	 * interpretations
+	 * 
+	 * @param country      the country
+	 * @param combinations the number interpretations or null
+	 * @return array of phone numbers interpretations or null if there are no
+	 *         number interpretations
+	 */
+	SNRPhoneNumber[] buildPhoneNumbers(SNRCountry country, String[] combinations) {
 		if (LangHelper.isNull(combinations)) {
 			return null;
 		}
 
+		final long startNano = SNRMetrics.ENABLED ? System.nanoTime() : 0;
+
 		SNRPhoneNumber[] phoneNumbers = new SNRPhoneNumber[combinations.length];
+		int validCount = 0;
 
 		// Fill phone numbers array based on combinations
 		for (int i = 0; i < combinations.length; i++) {
 			phoneNumbers[i] = new SNRPhoneNumber(country, combinations[i]);
+			if (phoneNumbers[i].isValid()) {
+				validCount++;
+			}
+		}
+
+		if (SNRMetrics.ENABLED) {
+			metrics.addValidation(validCount, System.nanoTime() - startNano);
 		}
 
 		return phoneNumbers;
 	}
 
+	/**
+	 * Method to recognize input and build limited array of possible phone numbers
+	 * interpretations, recognition stops as soon as limit is reached
+	 * 
+	 * @param country the country
+	 * @param input   the input
+	 * @param limit   the max amount of phone numbers interpretations
+	 * @return the first possible phone numbers interpretations and does output was
+	 *         truncated
+	 */
+	public SNRResult<SNRPhoneNumber> recognize(SNRCountry country, String input, int limit) {
+		LangHelper.notNull(country);
+
+		final SNRResult<String> combinations = recognize(input, limit);
+
+		final long startNano = SNRMetrics.ENABLED ? System.nanoTime() : 0;
+
+		final SNRPhoneNumber[] phoneNumbers = new SNRPhoneNumber[combinations.size()];
+		int validCount = 0;
+
+		for (int i = 0; i < phoneNumbers.length; i++) {
+			phoneNumbers[i] = new SNRPhoneNumber(country, combinations.getItems()[i]);
+			if (phoneNumbers[i].isValid()) {
+				validCount++;
+			}
+		}
+
+		if (SNRMetrics.ENABLED) {
+			metrics.addValidation(validCount, System.nanoTime() - startNano);
+		}
+
+		return new SNRResult<>(phoneNumbers, combinations.isTruncated());
+	}
+
+	/**
+	 * Method to recognize input and build array of valid phone numbers
+	 * interpretations only. Paths which can no longer reach a valid phone number
+	 * length are pruned without being built, so pruned enumeration is recorded to
+	 * metrics as validation stage
+	 * 
+	 * @param country the country
+	 * @param input   the input
+	 * @return array of valid phone numbers interpretations
+	 */
+	public SNRPhoneNumber[] recognizeValid(SNRCountry country, String input) {
+		LangHelper.notNull(country);
+
+		final SNRLattice lattice = buildLattice(input);
+
+		final long startNano = SNRMetrics.ENABLED ? System.nanoTime() : 0;
+
+		final Collection<SNRPhoneNumber> phoneNumbers = new ArrayList<>();
+
+		new SNRPhoneNumberSearch(lattice, country).search(phoneNumbers);
+
+		if (SNRMetrics.ENABLED) {
+			metrics.addValidation(phoneNumbers.size(), System.nanoTime() - startNano);
+		}
+
+		return phoneNumbers.toArray(new SNRPhoneNumber[phoneNumbers.size()]);
+	}
+
+	/**
+	 * Method to recognize input and lazily stream any possible phone numbers
+	 * interpretations
+	 * 
+	 * @param country the country
+	 * @param input   the input
+	 * @return stream of any possible phone numbers interpretations
+	 */
+	public Stream<SNRPhoneNumber> stream(SNRCountry country, String input) {
+		LangHelper.notNull(country);
+
+		return stream(input).map(combination -> new SNRPhoneNumber(country, combination));
+	}
+
+	/**
+	 * Method to recognize input and publish any possible phone numbers
+	 * interpretations on subscriber demand
+	 * 
+	 * @param country  the country
+	 * @param input    the input
+	 * @param executor the executor to emit phone numbers on
+	 * @return publisher of any possible phone numbers interpretations
+	 */
+	public SNRFlow.Publisher<SNRPhoneNumber> publish(SNRCountry country, String input, Executor executor) {
+		LangHelper.notNull(country);
+		LangHelper.notNull(input);
+
+		return new SNRPublisher<>(() -> stream(country, input).iterator(), executor);
+	}
+
+	/**
+	 * Method to recognize batch of independent inputs in parallel on common
+	 * fork-join pool
+	 * 
+	 * @param inputs  the list of inputs
+	 * @param country the country
+	 * @return list of batch results in input order
+	 */
+	public List<SNRBatchResult> recognizeAll(List<String> inputs, SNRCountry country) {
+		return recognizeAll(inputs, country, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Method to recognize batch of independent inputs in parallel on dedicated
+	 * fork-join pool with provided parallelism level
+	 * 
+	 * @param inputs      the list of inputs
+	 * @param country     the country
+	 * @param parallelism the parallelism level
+	 * @return list of batch results in input order
+	 */
+	public List<SNRBatchResult> recognizeAll(List<String> inputs, SNRCountry country, int parallelism) {
+		final ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			return recognizeAll(inputs, country, pool);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Method to recognize batch of independent inputs in parallel on provided
+	 * fork-join pool. Failure of single input is reported in its batch result
+	 * and does not abort the batch
+	 * 
+	 * @param inputs  the list of inputs
+	 * @param country the country
+	 * @param pool    the fork-join pool
+	 * @return list of batch results in input order
+	 */
+	public List<SNRBatchResult> recognizeAll(List<String> inputs, SNRCountry country, ForkJoinPool pool) {
+		LangHelper.notNull(inputs);
+		LangHelper.notNull(country);
+		LangHelper.notNull(pool);
+
+		final String[] inputsArray = inputs.toArray(new String[inputs.size()]);
+		final SNRBatchResult[] results = new SNRBatchResult[inputsArray.length];
+
+		// Split batch to several tasks per worker to balance inputs of different cost
+		final int threshold = Math.max(1, inputsArray.length / (pool.getParallelism() * 8));
+
+		pool.invoke(new SNRBatchTask(this, country, inputsArray, results, 0, inputsArray.length, threshold));
+
+		return Arrays.asList(results);
+	}
+
+	/**
+	 * Method to create incremental recognition session (e.g. for as-you-type
+	 * input)
+	 * 
+	 * @return the new SNR session
+	 */
+	public SNRSession createSession() {
+		return new SNRSession(this);
+	}
+
 	/**
 	 * Thread-safe method to get SNR Engine instance based on language
 	 * 
@@ -0,0 +1,194 @@
+package com.github.kindratsm.snr.engines;
+
+import java.util.function.Function;
+
+import com.github.kindratsm.snr.helpers.LangHelper;
+
+/**
+ * SNR Group Table, dense table of possible number interpretations of every
+ * short group up to provided amount of digits. Groups are indexed by length and
+ * numeric value (e.g. 05 and 5 are different entries), so lookup is a single
+ * array load
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+class SNRGroupTable {
+
+	/**
+	 * Max amount of digits of table, 10^6 entries per max length
+	 */
+	static final int MAX_DIGITS = 6;
+
+	private static final int OBJECT_HEADER_BYTES = 16;
+	private static final int REFERENCE_BYTES = 4;
+	private static final int STRING_BYTES = 24;
+
+	private final int digits;
+
+	/**
+	 * Table levels per group length, level is null until it is built
+	 */
+	private final String[][][] levels;
+
+	private long buildNanos;
+	private long memoryBytes;
+
+	/**
+	 * SNR Group Table constructor
+	 * 
+	 * @param digits the max amount of digits of group, zero disables table
+	 */
+	SNRGroupTable(int digits) {
+		if (digits < 0 || digits > MAX_DIGITS) {
+			throw new IllegalArgumentException(String.format("Invalid digits [%d]", digits));
+		}
+
+		this.digits = digits;
+		this.levels = new String[digits + 1][][];
+	}
+
+	/**
+	 * Method to build table from shorter to longer groups, so builder may look up
+	 * shorter groups which are already built
+	 * 
+	 * @param builder the builder of possible number interpretations of group
+	 */
+	void build(Function<String, String[]> builder) {
+		LangHelper.notNull(builder);
+
+		final long startNano = System.nanoTime();
+
+		long memoryBytes = align(OBJECT_HEADER_BYTES + REFERENCE_BYTES * levels.length);
+		final char[] chars = new char[digits];
+		for (int length = 1; length <= digits; length++) {
+			final String[][] level = new String[pow10(length)][];
+			memoryBytes += align(OBJECT_HEADER_BYTES + REFERENCE_BYTES * level.length);
+
+			for (int value = 0; value < level.length; value++) {
+				// Format value with leading zeros
+				int rest = value;
+				for (int i = length - 1; i >= 0; i--) {
+					chars[i] = (char) ('0' + rest % 10);
+					rest /= 10;
+				}
+
+				level[value] = builder.apply(new String(chars, 0, length));
+				memoryBytes += estimateBytes(level[value]);
+			}
+
+			levels[length] = level;
+		}
+
+		this.buildNanos = System.nanoTime() - startNano;
+		this.memoryBytes = memoryBytes;
+	}
+
+	/**
+	 * Method to get possible number interpretations of group
+	 * 
+	 * @param input the group input
+	 * @return possible number interpretations of group or null if group is not in
+	 *         table
+	 */
+	String[] get(String input) {
+		return get(input, 0);
+	}
+
+	/**
+	 * Method to get possible number interpretations of group which is suffix of
+	 * input
+	 * 
+	 * @param input the input
+	 * @param from  the first index of group
+	 * @return possible number interpretations of group or null if group is not in
+	 *         table
+	 */
+	String[] get(String input, int from) {
+		final int length = input.length() - from;
+		if (length > digits) {
+			return null;
+		}
+
+		final String[][] level = levels[length];
+		if (level == null) {
+			return null;
+		}
+
+		int value = 0;
+		for (int i = from; i < input.length(); i++) {
+			value = value * 10 + (input.charAt(i) - '0');
+		}
+
+		return level[value];
+	}
+
+	/**
+	 * Digits getter
+	 * 
+	 * @return the max amount of digits of group in table
+	 */
+	int getDigits() {
+		return digits;
+	}
+
+	/**
+	 * Build time getter
+	 * 
+	 * @return the time of table build in nanoseconds
+	 */
+	long getBuildNanos() {
+		return buildNanos;
+	}
+
+	/**
+	 * Memory getter
+	 * 
+	 * @return the estimated memory footprint of table in bytes (compressed
+	 *         references, one byte per char)
+	 */
+	long getMemoryBytes() {
+		return memoryBytes;
+	}
+
+	/**
+	 * Method to estimate memory of table entry
+	 * 
+	 * @param items the possible number interpretations
+	 * @return the estimated memory in bytes
+	 */
+	private static long estimateBytes(String[] items) {
+		long bytes = align(OBJECT_HEADER_BYTES + REFERENCE_BYTES * items.length);
+		for (String item : items) {
+			bytes += STRING_BYTES + align(OBJECT_HEADER_BYTES + item.length());
+		}
+
+		return bytes;
+	}
+
+	/**
+	 * Method to align size of object to 8 bytes
+	 * 
+	 * @param bytes the size of object
+	 * @return the aligned size of object
+	 */
+	private static long align(long bytes) {
+		return (bytes + 7) & ~7L;
+	}
+
+	/**
+	 * Method to get power of ten
+	 * 
+	 * @param exponent the exponent
+	 * @return the power of ten
+	 */
+	private static int pow10(int exponent) {
+		int value = 1;
+		for (int i = 0; i < exponent; i++) {
+			value *= 10;
+		}
+
+		return value;
+	}
+
+}
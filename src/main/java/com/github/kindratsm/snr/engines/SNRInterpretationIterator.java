@@ -0,0 +1,92 @@
+package com.github.kindratsm.snr.engines;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.github.kindratsm.snr.helpers.LangHelper;
+import com.github.kindratsm.snr.models.SNRLattice;
+
+/**
+ * SNR Interpretation Iterator which lazily walks over every path of SNR lattice
+ * (e.g. odometer), keeping only current indexes and a single reusable buffer.
+ * Layers which may repeat paths are merged when lattice is built, so paths are
+ * distinct and nothing else is kept
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+class SNRInterpretationIterator implements Iterator<String> {
+
+	private final SNRLattice lattice;
+	private final int[] indexes;
+	private final int[] offsets;
+	private final StringBuilder buffer = new StringBuilder();
+	private boolean hasNext;
+
+	/**
+	 * SNR Interpretation Iterator constructor based on SNR lattice
+	 * 
+	 * @param lattice the SNR lattice
+	 */
+	SNRInterpretationIterator(SNRLattice lattice) {
+		LangHelper.notNull(lattice);
+
+		this.lattice = lattice;
+		this.indexes = new int[lattice.getLayerCount()];
+		this.offsets = new int[lattice.getLayerCount()];
+		this.hasNext = !lattice.isEmpty();
+
+		if (hasNext) {
+			fill(0);
+		}
+	}
+
+	/**
+	 * Method to rebuild buffer starting from provided group
+	 * 
+	 * @param from the first SNR group index to rebuild
+	 */
+	private void fill(int from) {
+		buffer.setLength(offsets[from]);
+
+		for (int i = from; i < indexes.length; i++) {
+			offsets[i] = buffer.length();
+			buffer.append(lattice.getItem(i, indexes[i]));
+		}
+	}
+
+	/**
+	 * Method to move indexes to the next combination
+	 */
+	private void advance() {
+		for (int i = indexes.length - 1; i >= 0; i--) {
+			if (++indexes[i] < lattice.getItemCount(i)) {
+				fill(i);
+				return;
+			}
+
+			indexes[i] = 0;
+		}
+
+		hasNext = false;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return hasNext;
+	}
+
+	@Override
+	public String next() {
+		if (!hasNext) {
+			throw new NoSuchElementException();
+		}
+
+		final String combination = buffer.toString();
+
+		advance();
+
+		return combination;
+	}
+
+}
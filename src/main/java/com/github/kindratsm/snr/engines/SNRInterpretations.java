@@ -0,0 +1,170 @@
+package com.github.kindratsm.snr.engines;
+
+import java.math.BigInteger;
+
+import com.github.kindratsm.snr.helpers.LangHelper;
+import com.github.kindratsm.snr.models.SNRLattice;
+
+/**
+ * SNR Interpretations, random access to possible number interpretations of SNR
+ * lattice in natural order without building them all. Every layer already
+ * contains interpretations of its SNR group including modulus look-ahead on the
+ * next group, so interpretation is addressed by mixed radix index over layer
+ * item counts. Layers which may repeat paths are merged when lattice is built,
+ * so paths are distinct and sorted and index is decoded directly
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRInterpretations {
+
+	private final SNRLattice lattice;
+	private final BigInteger size;
+
+	/**
+	 * Does size fits to long, so index is decoded by long arithmetic
+	 */
+	private final boolean isLongSize;
+
+	/**
+	 * SNR Interpretations constructor based on ordered SNR lattice
+	 * 
+	 * @param lattice the SNR lattice
+	 */
+	SNRInterpretations(SNRLattice lattice) {
+		LangHelper.notNull(lattice);
+
+		this.lattice = lattice;
+		this.size = lattice.isEmpty() ? BigInteger.ZERO : lattice.getPathCount();
+		this.isLongSize = size.bitLength() < Long.SIZE;
+	}
+
+	/**
+	 * Size getter
+	 * 
+	 * @return the count of possible number interpretations
+	 */
+	public BigInteger size() {
+		return size;
+	}
+
+	/**
+	 * Method to check does there are no interpretations
+	 * 
+	 * @return does there are no interpretations
+	 */
+	public boolean isEmpty() {
+		return size.signum() == 0;
+	}
+
+	/**
+	 * Method to get interpretation by index
+	 * 
+	 * @param index the interpretation index
+	 * @return the possible number interpretation
+	 */
+	public String get(long index) {
+		return get(BigInteger.valueOf(index));
+	}
+
+	/**
+	 * Method to get interpretation by index
+	 * 
+	 * @param index the interpretation index
+	 * @return the possible number interpretation
+	 */
+	public String get(BigInteger index) {
+		LangHelper.notNull(index);
+
+		if (index.signum() < 0 || index.compareTo(size) >= 0) {
+			throw new IllegalArgumentException(String.format("Invalid index [%s]", index));
+		}
+
+		final int[] indexes = new int[lattice.getLayerCount()];
+		decode(index, indexes);
+
+		return build(indexes, new StringBuilder());
+	}
+
+	/**
+	 * Method to get page of interpretations, index is decoded once and next
+	 * interpretations are taken by moving layer indexes (e.g. odometer)
+	 * 
+	 * @param from  the first interpretation index
+	 * @param count the max amount of interpretations
+	 * @return the interpretations from index, fewer than count at the end
+	 */
+	public String[] getPage(long from, int count) {
+		final BigInteger start = BigInteger.valueOf(from);
+		if (from < 0 || start.compareTo(size) > 0) {
+			throw new IllegalArgumentException(String.format("Invalid index [%d]", from));
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException(String.format("Invalid count [%d]", count));
+		}
+
+		final String[] page = new String[size.subtract(start).min(BigInteger.valueOf(count)).intValue()];
+		if (page.length == 0) {
+			return page;
+		}
+
+		final int[] indexes = new int[lattice.getLayerCount()];
+		decode(start, indexes);
+
+		final StringBuilder buffer = new StringBuilder();
+		for (int i = 0; i < page.length; i++) {
+			page[i] = build(indexes, buffer);
+
+			int layer = indexes.length - 1;
+			while (layer >= 0 && ++indexes[layer] == lattice.getItemCount(layer)) {
+				indexes[layer--] = 0;
+			}
+		}
+
+		return page;
+	}
+
+	/**
+	 * Method to decode index to layer indexes, the last layer is the least
+	 * significant digit
+	 * 
+	 * @param index   the interpretation index
+	 * @param indexes the layer indexes to fill
+	 */
+	private void decode(BigInteger index, int[] indexes) {
+		if (isLongSize) {
+			long value = index.longValue();
+			for (int layer = indexes.length - 1; layer >= 0; layer--) {
+				final int itemCount = lattice.getItemCount(layer);
+				indexes[layer] = (int) (value % itemCount);
+				value /= itemCount;
+			}
+
+			return;
+		}
+
+		BigInteger value = index;
+		for (int layer = indexes.length - 1; layer >= 0; layer--) {
+			final BigInteger[] division = value.divideAndRemainder(BigInteger.valueOf(lattice.getItemCount(layer)));
+			indexes[layer] = division[1].intValue();
+			value = division[0];
+		}
+	}
+
+	/**
+	 * Method to build interpretation of layer indexes
+	 * 
+	 * @param indexes the layer indexes
+	 * @param buffer  the reusable buffer
+	 * @return the possible number interpretation
+	 */
+	private String build(int[] indexes, StringBuilder buffer) {
+		buffer.setLength(0);
+		for (int layer = 0; layer < indexes.length; layer++) {
+			buffer.append(lattice.getItem(layer, indexes[layer]));
+		}
+
+		return buffer.toString();
+	}
+
+}
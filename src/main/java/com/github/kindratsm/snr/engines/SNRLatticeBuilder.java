@@ -0,0 +1,156 @@
+package com.github.kindratsm.snr.engines;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.github.kindratsm.snr.helpers.LangHelper;
+import com.github.kindratsm.snr.models.SNRLattice;
+import com.github.kindratsm.snr.models.SNRScoreModel;
+
+/**
+ * SNR Lattice Builder, builds SNR lattice of layers added one per SNR group.
+ * Layer which may build repeated or unordered paths with the next layer (e.g.
+ * modulus followed by group with leading zeros) is merged with it to a single
+ * layer of distinct joined items, so paths of built lattice are always distinct
+ * and in natural order and their count is a product of layer item counts.
+ * Merged layer is as large as the merged groups build, other layers are kept as
+ * is
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+class SNRLatticeBuilder {
+
+	private final SNRScoreModel scoreModel;
+
+	private String[][] layers;
+	private double[][] scores;
+	private int size;
+
+	/**
+	 * SNR Lattice Builder constructor
+	 * 
+	 * @param capacity   the expected count of layers
+	 * @param scoreModel the score model of layer items or null if items are not
+	 *                   scored
+	 */
+	SNRLatticeBuilder(int capacity, SNRScoreModel scoreModel) {
+		this.scoreModel = scoreModel;
+		this.layers = new String[capacity][];
+		this.scores = LangHelper.isNull(scoreModel) ? null : new double[capacity][];
+	}
+
+	/**
+	 * Method to add layer of possible number interpretations of SNR group, layer
+	 * is merged with the previous one while they are not ordered
+	 * 
+	 * @param input the SNR group input
+	 * @param items the possible number interpretations of SNR group
+	 */
+	void add(String input, String[] items) {
+		LangHelper.notNull(input);
+		LangHelper.notNull(items);
+
+		if (size == layers.length) {
+			layers = Arrays.copyOf(layers, Math.max(size * 2, 1));
+			if (LangHelper.isNotNull(scores)) {
+				scores = Arrays.copyOf(scores, layers.length);
+			}
+		}
+
+		layers[size] = items;
+		if (LangHelper.isNotNull(scores)) {
+			scores[size] = new double[items.length];
+			for (int i = 0; i < items.length; i++) {
+				scores[size][i] = scoreModel.score(input, items[i]);
+			}
+		}
+		size++;
+
+		while (size > 1 && !SNRLattice.isOrdered(layers[size - 2], layers[size - 1])) {
+			merge();
+		}
+	}
+
+	/**
+	 * Method to merge the last two layers to a single layer of distinct joined
+	 * items in item order, repeated item keeps its best score
+	 */
+	private void merge() {
+		final String[] items = layers[size - 2];
+		final String[] nextItems = layers[size - 1];
+
+		final Map<String, Double> merged = new TreeMap<>(SNRLattice.ITEM_ORDER);
+		for (int i = 0; i < items.length; i++) {
+			for (int j = 0; j < nextItems.length; j++) {
+				merged.merge(items[i] + nextItems[j], getScore(size - 2, i) + getScore(size - 1, j), Math::max);
+			}
+		}
+
+		size--;
+		set(size - 1, merged);
+	}
+
+	/**
+	 * Method to get score of layer item
+	 * 
+	 * @param layer the layer index
+	 * @param index the item index
+	 * @return the score or zero if items are not scored
+	 */
+	private double getScore(int layer, int index) {
+		return LangHelper.isNull(scores) ? 0 : scores[layer][index];
+	}
+
+	/**
+	 * Method to set layer items and their scores
+	 * 
+	 * @param layer the layer index
+	 * @param items the items and their scores in iteration order
+	 */
+	private void set(int layer, Map<String, Double> items) {
+		layers[layer] = new String[items.size()];
+		if (LangHelper.isNotNull(scores)) {
+			scores[layer] = new double[items.size()];
+		}
+
+		int i = 0;
+		for (Map.Entry<String, Double> entry : items.entrySet()) {
+			layers[layer][i] = entry.getKey();
+			if (LangHelper.isNotNull(scores)) {
+				scores[layer][i] = entry.getValue();
+			}
+			i++;
+		}
+	}
+
+	/**
+	 * Method to build SNR lattice of added layers, the last layer is sorted in
+	 * natural order if item order differs from it (e.g. 30 goes before 3)
+	 * 
+	 * @return the SNR lattice
+	 */
+	SNRLattice build() {
+		if (size > 0 && !SNRLattice.isOrdered(layers[size - 1], null)) {
+			final Map<String, Double> items = new TreeMap<>();
+			for (int i = 0; i < layers[size - 1].length; i++) {
+				items.merge(layers[size - 1][i], getScore(size - 1, i), Math::max);
+			}
+			set(size - 1, items);
+		}
+
+		return new SNRLattice(size == layers.length ? layers : Arrays.copyOf(layers, size));
+	}
+
+	/**
+	 * Scores getter
+	 * 
+	 * @return the item scores per layer of built lattice or null if items are not
+	 *         scored
+	 */
+	double[][] getScores() {
+		return LangHelper.isNull(scores) || size == scores.length ? scores : Arrays.copyOf(scores, size);
+	}
+
+}
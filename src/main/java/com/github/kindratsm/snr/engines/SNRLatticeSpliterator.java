@@ -0,0 +1,180 @@
+package com.github.kindratsm.snr.engines;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.github.kindratsm.snr.helpers.LangHelper;
+import com.github.kindratsm.snr.models.SNRLattice;
+
+/**
+ * SNR Lattice Spliterator which walks over a range of SNR lattice paths. Paths
+ * are addressed by mixed radix index over first (prefix) layers, so every index
+ * is a subtree of the same size and range is split in halves by subtree size.
+ * Prefix layers are all layers when count of paths fits to long
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+class SNRLatticeSpliterator implements Spliterator<String> {
+
+	private static final long MIN_SPLIT_SIZE = 2;
+
+	private final SNRLattice lattice;
+	private final int prefixLayers;
+	private final long suffixCount;
+	private final int[] indexes;
+	private final int[] offsets;
+	private final StringBuilder buffer = new StringBuilder();
+	private long from;
+	private long to;
+	private boolean started;
+
+	/**
+	 * SNR Lattice Spliterator constructor over all SNR lattice paths
+	 * 
+	 * @param lattice the SNR lattice
+	 */
+	SNRLatticeSpliterator(SNRLattice lattice) {
+		LangHelper.notNull(lattice);
+
+		this.lattice = lattice;
+		this.indexes = new int[lattice.getLayerCount()];
+		this.offsets = new int[lattice.getLayerCount()];
+
+		// Take as many prefix layers as possible while count of prefixes fits to long
+		int prefixLayers = 0;
+		long prefixCount = lattice.isEmpty() ? 0 : 1;
+		long suffixCount = 1;
+		for (int layer = 0; layer < lattice.getLayerCount(); layer++) {
+			final int itemCount = lattice.getItemCount(layer);
+			if (prefixLayers == layer && prefixCount <= Long.MAX_VALUE / Math.max(1, itemCount)) {
+				prefixCount *= itemCount;
+				prefixLayers++;
+			} else {
+				suffixCount = suffixCount <= Long.MAX_VALUE / itemCount ? suffixCount * itemCount : Long.MAX_VALUE;
+			}
+		}
+
+		this.prefixLayers = prefixLayers;
+		this.suffixCount = suffixCount;
+		this.from = 0;
+		this.to = prefixCount;
+	}
+
+	/**
+	 * SNR Lattice Spliterator constructor over range of prefixes
+	 * 
+	 * @param parent the parent spliterator
+	 * @param from   the first prefix index (inclusive)
+	 * @param to     the last prefix index (exclusive)
+	 */
+	private SNRLatticeSpliterator(SNRLatticeSpliterator parent, long from, long to) {
+		this.lattice = parent.lattice;
+		this.prefixLayers = parent.prefixLayers;
+		this.suffixCount = parent.suffixCount;
+		this.indexes = new int[parent.indexes.length];
+		this.offsets = new int[parent.offsets.length];
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * Method to decode prefix index to layer indexes and build first path
+	 */
+	private void start() {
+		long index = from;
+		for (int layer = prefixLayers - 1; layer >= 0; layer--) {
+			final int itemCount = lattice.getItemCount(layer);
+			indexes[layer] = (int) (index % itemCount);
+			index /= itemCount;
+		}
+
+		fill(0);
+		started = true;
+	}
+
+	/**
+	 * Method to rebuild buffer starting from provided layer
+	 * 
+	 * @param layer the first layer to rebuild
+	 */
+	private void fill(int layer) {
+		buffer.setLength(offsets[layer]);
+
+		for (int i = layer; i < indexes.length; i++) {
+			offsets[i] = buffer.length();
+			buffer.append(lattice.getItem(i, indexes[i]));
+		}
+	}
+
+	/**
+	 * Method to move indexes to the next path
+	 */
+	private void advance() {
+		for (int layer = indexes.length - 1; layer >= 0; layer--) {
+			if (layer == prefixLayers - 1) {
+				// Carry to prefix layers moves to the next prefix
+				from++;
+			}
+
+			if (++indexes[layer] < lattice.getItemCount(layer)) {
+				fill(layer);
+				return;
+			}
+
+			indexes[layer] = 0;
+		}
+
+		from = to;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super String> action) {
+		LangHelper.notNull(action);
+
+		if (from >= to) {
+			return false;
+		}
+
+		if (!started) {
+			start();
+		}
+
+		action.accept(buffer.toString());
+
+		advance();
+
+		return true;
+	}
+
+	@Override
+	public Spliterator<String> trySplit() {
+		if (started || to - from < MIN_SPLIT_SIZE) {
+			return null;
+		}
+
+		final long middle = from + (to - from) / 2;
+		final SNRLatticeSpliterator prefix = new SNRLatticeSpliterator(this, from, middle);
+		from = middle;
+
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		final long prefixCount = to - from;
+
+		return prefixCount <= Long.MAX_VALUE / suffixCount ? prefixCount * suffixCount : Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		int characteristics = Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+		if (prefixLayers == indexes.length) {
+			characteristics |= Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+
+		return characteristics;
+	}
+
+}
@@ -0,0 +1,153 @@
+package com.github.kindratsm.snr.engines;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.github.kindratsm.snr.enums.SNRLanguage;
+import com.github.kindratsm.snr.helpers.LangHelper;
+import com.github.kindratsm.snr.helpers.SNRHelper;
+import com.github.kindratsm.snr.models.SNRLattice;
+
+/**
+ * SNR Modulus Group, possible number interpretations of modulus group (e.g. 10,
+ * 2000, 3330) based on next group. Next group affects interpretations by its
+ * length and by its value only up to the language limit, so interpretations
+ * are kept per (next group length, next group value capped by limit) and built
+ * once without string keys
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+class SNRModulusGroup {
+
+	private final String[] items;
+	private final int[] zeroCounts;
+	private final int maxZeroCount;
+	private final int limit;
+
+	/**
+	 * Interpretations per next group length and capped value, null until built
+	 */
+	private final AtomicReferenceArray<String[]> variants;
+
+	/**
+	 * SNR Modulus Group constructor
+	 * 
+	 * @param items    the possible number interpretations of modulus group as
+	 *                 complex group
+	 * @param language the language
+	 */
+	SNRModulusGroup(String[] items, SNRLanguage language) {
+		LangHelper.notNull(items);
+		LangHelper.notNull(language);
+
+		this.items = items;
+		this.limit = language.getLimit();
+		this.zeroCounts = new int[items.length];
+
+		int maxZeroCount = 0;
+		for (int i = 0; i < items.length; i++) {
+			zeroCounts[i] = SNRHelper.countTrailingZeros(items[i]);
+			maxZeroCount = Math.max(maxZeroCount, zeroCounts[i]);
+		}
+
+		this.maxZeroCount = maxZeroCount;
+		this.variants = new AtomicReferenceArray<>((maxZeroCount + 1) * (limit + 2));
+	}
+
+	/**
+	 * Method to get possible number interpretations based on next group
+	 * 
+	 * @param nextDigits the next group digits or null if modulus has no next group
+	 * @return possible number interpretations for modulus group
+	 */
+	String[] get(char[] nextDigits) {
+		if (LangHelper.isNull(nextDigits) || nextDigits.length > maxZeroCount) {
+			// Modulus has no other interpretations
+			return items;
+		}
+
+		final int nextLength = nextDigits.length;
+
+		// Next group value above limit is the same as limit + 1
+		int nextValue = 0;
+		for (int i = 0; i < nextLength && nextValue <= limit; i++) {
+			nextValue = nextValue * 10 + (nextDigits[i] - '0');
+		}
+		nextValue = Math.min(nextValue, limit + 1);
+
+		final int slot = nextLength * (limit + 2) + nextValue;
+
+		String[] variant = variants.get(slot);
+		if (LangHelper.isNull(variant)) {
+			variant = build(nextLength, nextValue);
+			variants.set(slot, variant);
+		}
+
+		return variant;
+	}
+
+	/**
+	 * Method to build possible number interpretations based on next group, modulus
+	 * without trailing zeros replaced by next group is an interpretation too if
+	 * joined number is above limit (e.g. 20 5 is 205 and 25)
+	 * 
+	 * @param nextLength the next group length
+	 * @param nextValue  the next group value capped by limit
+	 * @return possible number interpretations for modulus group
+	 */
+	private String[] build(int nextLength, int nextValue) {
+		final boolean[] extras = new boolean[items.length];
+
+		int count = items.length;
+		for (int i = 0; i < items.length; i++) {
+			if (zeroCounts[i] >= nextLength && isAboveLimit(items[i], nextLength, nextValue)) {
+				extras[i] = true;
+				count++;
+			}
+		}
+
+		// Variant is sorted once and kept distinct, so lattice paths are generated in order
+		final String[] variant = new String[count];
+		System.arraycopy(items, 0, variant, 0, items.length);
+
+		int index = items.length;
+		for (int i = 0; i < items.length; i++) {
+			if (extras[i]) {
+				variant[index++] = items[i].substring(0, items[i].length() - nextLength);
+			}
+		}
+
+		return SNRLattice.sortDistinct(variant);
+	}
+
+	/**
+	 * Method to check does modulus without trailing zeros joined with next group
+	 * is above limit
+	 * 
+	 * @param item       the modulus interpretation
+	 * @param nextLength the next group length
+	 * @param nextValue  the next group value capped by limit
+	 * @return does joined number is above limit
+	 */
+	private boolean isAboveLimit(String item, int nextLength, int nextValue) {
+		final int extraLength = item.length() - nextLength;
+
+		long value = 0;
+		for (int i = 0; i < extraLength; i++) {
+			value = value * 10 + (item.charAt(i) - '0');
+			if (value > limit) {
+				return true;
+			}
+		}
+
+		for (int i = 0; i < nextLength; i++) {
+			value *= 10;
+			if (value > limit) {
+				return true;
+			}
+		}
+
+		return value + nextValue > limit;
+	}
+
+}
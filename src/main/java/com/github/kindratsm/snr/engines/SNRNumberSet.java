@@ -0,0 +1,142 @@
+package com.github.kindratsm.snr.engines;
+
+import com.github.kindratsm.snr.helpers.LangHelper;
+import com.github.kindratsm.snr.models.SNRNumberArray;
+
+/**
+ * SNR Number Set, primitive open addressing hash set of encoded number
+ * interpretations (e.g. unsigned value and length in digits). Interpretations
+ * are kept in insertion order without boxing. Interpretations known to be
+ * distinct are only appended without hash table
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+class SNRNumberSet {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private long[] values = new long[INITIAL_CAPACITY];
+	private byte[] lengths = new byte[INITIAL_CAPACITY];
+	private int size;
+
+	/**
+	 * Hash table of interpretation indexes increased by one, zero is empty slot,
+	 * null if interpretations are distinct
+	 */
+	private int[] table;
+
+	/**
+	 * SNR Number Set constructor
+	 * 
+	 * @param distinct does added interpretations are known to be distinct
+	 */
+	SNRNumberSet(boolean distinct) {
+		this.table = distinct ? null : new int[INITIAL_CAPACITY * 2];
+	}
+
+	/**
+	 * Method to calculate hash of encoded interpretation
+	 * 
+	 * @param value  the unsigned value
+	 * @param length the length in digits
+	 * @return the hash
+	 */
+	private static int hash(long value, int length) {
+		long hash = (value + length) * 0x9E3779B97F4A7C15L;
+
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+	/**
+	 * Method to add encoded interpretation
+	 * 
+	 * @param value  the unsigned value
+	 * @param length the length in digits
+	 * @return does interpretation was added (e.g. was not present in set)
+	 */
+	boolean add(long value, int length) {
+		if (LangHelper.isNull(table)) {
+			if (size == values.length) {
+				grow();
+			}
+
+			values[size] = value;
+			lengths[size++] = (byte) length;
+
+			return true;
+		}
+
+		final int mask = table.length - 1;
+
+		int slot = hash(value, length) & mask;
+		while (table[slot] != 0) {
+			final int index = table[slot] - 1;
+			if (values[index] == value && lengths[index] == length) {
+				return false;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		if (size == values.length) {
+			grow();
+			return add(value, length);
+		}
+
+		values[size] = value;
+		lengths[size] = (byte) length;
+		table[slot] = ++size;
+
+		return true;
+	}
+
+	/**
+	 * Method to double capacity and rebuild hash table
+	 */
+	private void grow() {
+		final int capacity = values.length * 2;
+
+		final long[] values = new long[capacity];
+		final byte[] lengths = new byte[capacity];
+		System.arraycopy(this.values, 0, values, 0, size);
+		System.arraycopy(this.lengths, 0, lengths, 0, size);
+
+		this.values = values;
+		this.lengths = lengths;
+
+		if (LangHelper.isNull(this.table)) {
+			return;
+		}
+
+		final int[] table = new int[capacity * 2];
+		final int mask = table.length - 1;
+		for (int index = 0; index < size; index++) {
+			int slot = hash(values[index], lengths[index]) & mask;
+			while (table[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = index + 1;
+		}
+
+		this.table = table;
+	}
+
+	/**
+	 * Size getter
+	 * 
+	 * @return the amount of interpretations
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Method to build SNR number array of interpretations in insertion order
+	 * 
+	 * @return the SNR number array
+	 */
+	SNRNumberArray toNumberArray() {
+		return new SNRNumberArray(values, lengths, size);
+	}
+
+}
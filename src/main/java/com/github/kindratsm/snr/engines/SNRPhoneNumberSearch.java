@@ -0,0 +1,117 @@
+package com.github.kindratsm.snr.engines;
+
+import java.util.Collection;
+
+import com.github.kindratsm.snr.enums.SNRCountry;
+import com.github.kindratsm.snr.helpers.LangHelper;
+import com.github.kindratsm.snr.models.SNRLattice;
+import com.github.kindratsm.snr.models.SNRPhoneNumber;
+
+/**
+ * SNR Phone Number Search which walks SNR lattice depth first and drops any
+ * partial path which can no longer reach a valid phone number length
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+class SNRPhoneNumberSearch {
+
+	private final SNRLattice lattice;
+	private final SNRCountry country;
+	private final int maxLength;
+
+	/**
+	 * Does valid phone length is reachable from layer with provided length of
+	 * current path, indexed by layer and current path length
+	 */
+	private final boolean[][] reachable;
+
+	private final StringBuilder buffer = new StringBuilder();
+
+	/**
+	 * SNR Phone Number Search constructor
+	 * 
+	 * @param lattice the SNR lattice
+	 * @param country the country
+	 */
+	SNRPhoneNumberSearch(SNRLattice lattice, SNRCountry country) {
+		LangHelper.notNull(lattice);
+		LangHelper.notNull(country);
+
+		this.lattice = lattice;
+		this.country = country;
+		this.maxLength = country.getMaxPhoneLength();
+		this.reachable = buildReachable();
+	}
+
+	/**
+	 * Method to build reachable table from the last layer to the first one
+	 * 
+	 * @return the reachable table
+	 */
+	private boolean[][] buildReachable() {
+		final int layerCount = lattice.getLayerCount();
+		final boolean[][] table = new boolean[layerCount + 1][maxLength + 1];
+
+		// After the last layer path length must be valid phone length
+		for (int length = 0; length <= maxLength; length++) {
+			table[layerCount][length] = country.isPhoneLength(length);
+		}
+
+		for (int layer = layerCount - 1; layer >= 0; layer--) {
+			for (int index = 0; index < lattice.getItemCount(layer); index++) {
+				final int itemLength = lattice.getItem(layer, index).length();
+				for (int length = 0; length + itemLength <= maxLength; length++) {
+					table[layer][length] |= table[layer + 1][length + itemLength];
+				}
+			}
+		}
+
+		return table;
+	}
+
+	/**
+	 * Method to collect valid phone numbers
+	 * 
+	 * @param phoneNumbers the collection of valid phone numbers
+	 */
+	void search(Collection<SNRPhoneNumber> phoneNumbers) {
+		LangHelper.notNull(phoneNumbers);
+
+		buffer.setLength(0);
+
+		if (reachable[0][0]) {
+			search(phoneNumbers, 0);
+		}
+	}
+
+	/**
+	 * Method to walk layer and its children depth first
+	 * 
+	 * @param phoneNumbers the collection of valid phone numbers
+	 * @param layer        the current layer
+	 */
+	private void search(Collection<SNRPhoneNumber> phoneNumbers, int layer) {
+		if (layer == lattice.getLayerCount()) {
+			if (country.isValidPhoneNumber(buffer)) {
+				phoneNumbers.add(new SNRPhoneNumber(country, buffer.toString(), true));
+			}
+
+			return;
+		}
+
+		final int length = buffer.length();
+		for (int index = 0; index < lattice.getItemCount(layer); index++) {
+			final String item = lattice.getItem(layer, index);
+			final int nextLength = length + item.length();
+
+			// Skip item if valid phone length is not reachable anymore
+			if (nextLength <= maxLength && reachable[layer + 1][nextLength]) {
+				buffer.append(item);
+				search(phoneNumbers, layer + 1);
+				buffer.setLength(length);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,235 @@
+package com.github.kindratsm.snr.engines;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.github.kindratsm.snr.flows.SNRFlow;
+import com.github.kindratsm.snr.helpers.LangHelper;
+
+/**
+ * SNR Publisher, publisher of lazily built interpretations which are pulled
+ * from iterator only on subscriber demand, so slow subscriber pauses
+ * enumeration instead of buffering it. Every subscription has own iterator and
+ * emits on executor, one drain at a time and a limited batch per task, so long
+ * enumeration does not hold executor thread
+ * 
+ * @author Stanislav Kindrat
+ *
+ * @param <T> the item type
+ */
+class SNRPublisher<T> implements SNRFlow.Publisher<T> {
+
+	/**
+	 * Max amount of items emitted by single executor task
+	 */
+	private static final int BATCH_SIZE = 1024;
+
+	private final Supplier<? extends Iterator<? extends T>> source;
+	private final Executor executor;
+
+	/**
+	 * Subscription which pulls items from own iterator
+	 * 
+	 * @param <T> the item type
+	 */
+	private static class Subscription<T> implements SNRFlow.Subscription, Runnable {
+
+		private final Supplier<? extends Iterator<? extends T>> source;
+		private final Executor executor;
+		private final SNRFlow.Subscriber<? super T> subscriber;
+
+		/**
+		 * Requested and not yet emitted items, Long.MAX_VALUE is unbounded
+		 */
+		private final AtomicLong demand = new AtomicLong();
+
+		/**
+		 * Amount of signals not yet seen by drain, drain is scheduled on first one
+		 */
+		private final AtomicInteger pending = new AtomicInteger();
+
+		private volatile boolean cancelled;
+		private volatile Throwable requestError;
+
+		/**
+		 * Iterator and terminal state are accessed only by drain
+		 */
+		private Iterator<? extends T> iterator;
+		private boolean done;
+
+		/**
+		 * Subscription constructor
+		 * 
+		 * @param source     the iterator supplier
+		 * @param executor   the executor
+		 * @param subscriber the subscriber
+		 */
+		private Subscription(Supplier<? extends Iterator<? extends T>> source, Executor executor,
+				SNRFlow.Subscriber<? super T> subscriber) {
+			this.source = source;
+			this.executor = executor;
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				requestError = new IllegalArgumentException(String.format("Invalid request [%d]", n));
+			} else {
+				demand.getAndUpdate(value -> value + n < 0 ? Long.MAX_VALUE : value + n);
+			}
+
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+
+			schedule();
+		}
+
+		/**
+		 * Method to schedule drain if it is not running yet
+		 */
+		private void schedule() {
+			if (pending.getAndIncrement() == 0) {
+				execute();
+			}
+		}
+
+		/**
+		 * Method to submit drain to executor, rejected drain fails subscription
+		 */
+		private void execute() {
+			try {
+				executor.execute(this);
+			} catch (RuntimeException ex) {
+				cancelled = true;
+				iterator = null;
+				if (!done) {
+					done = true;
+					subscriber.onError(ex);
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			int missed = 1;
+			while (true) {
+				if (!drain()) {
+					// Batch is emitted, the rest goes to the next task
+					execute();
+					return;
+				}
+
+				missed = pending.addAndGet(-missed);
+				if (missed == 0) {
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Method to emit requested items up to batch size
+		 * 
+		 * @return false if batch is emitted and demand is left
+		 */
+		private boolean drain() {
+			if (done) {
+				return true;
+			}
+			if (cancelled) {
+				done = true;
+				iterator = null;
+				return true;
+			}
+
+			final Throwable error = requestError;
+			if (LangHelper.isNotNull(error)) {
+				return fail(error);
+			}
+
+			int emitted = 0;
+			while (!cancelled) {
+				final T item;
+				try {
+					if (LangHelper.isNull(iterator)) {
+						iterator = source.get();
+					}
+					if (!iterator.hasNext()) {
+						done = true;
+						iterator = null;
+						subscriber.onComplete();
+						return true;
+					}
+
+					final long requested = demand.get();
+					if (requested == 0) {
+						return true;
+					}
+					if (emitted == BATCH_SIZE) {
+						return false;
+					}
+
+					item = iterator.next();
+					if (requested != Long.MAX_VALUE) {
+						demand.decrementAndGet();
+					}
+				} catch (RuntimeException ex) {
+					return fail(ex);
+				}
+
+				emitted++;
+				subscriber.onNext(item);
+			}
+
+			done = true;
+			iterator = null;
+
+			return true;
+		}
+
+		/**
+		 * Method to fail subscription
+		 * 
+		 * @param error the failure
+		 * @return true, nothing is left to emit
+		 */
+		private boolean fail(Throwable error) {
+			cancelled = true;
+			done = true;
+			iterator = null;
+			subscriber.onError(error);
+
+			return true;
+		}
+
+	}
+
+	/**
+	 * SNR Publisher constructor
+	 * 
+	 * @param source   the supplier of new iterator per subscription
+	 * @param executor the executor to emit items on
+	 */
+	SNRPublisher(Supplier<? extends Iterator<? extends T>> source, Executor executor) {
+		LangHelper.notNull(source);
+		LangHelper.notNull(executor);
+
+		this.source = source;
+		this.executor = executor;
+	}
+
+	@Override
+	public void subscribe(SNRFlow.Subscriber<? super T> subscriber) {
+		LangHelper.notNull(subscriber);
+
+		subscriber.onSubscribe(new Subscription<>(source, executor, subscriber));
+	}
+
+}
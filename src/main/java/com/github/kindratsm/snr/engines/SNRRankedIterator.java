@@ -0,0 +1,201 @@
+package com.github.kindratsm.snr.engines;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import com.github.kindratsm.snr.helpers.LangHelper;
+import com.github.kindratsm.snr.models.SNRLattice;
+
+/**
+ * SNR Ranked Iterator which lazily walks over paths of SNR lattice in
+ * descending score (e.g. best-first search). Items of every layer are ranked by
+ * descending score, so the best path takes the first ranked item of every layer
+ * and every other path is reached from a single better path by moving one layer
+ * to its next ranked item. Only paths next to already taken ones are kept in
+ * priority queue, ties are taken in layer item order. Paths of built lattice
+ * are distinct, so taken paths are not kept
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+class SNRRankedIterator implements Iterator<String> {
+
+	private final SNRLattice lattice;
+
+	/**
+	 * Item indexes per layer in descending score
+	 */
+	private final int[][] ranks;
+
+	/**
+	 * Item scores per layer in descending score
+	 */
+	private final double[][] scores;
+
+	private final PriorityQueue<Path> queue = new PriorityQueue<>(Path.ORDER);
+
+	private final StringBuilder buffer = new StringBuilder();
+	private String next;
+
+	/**
+	 * Lattice path in ranked item indexes, path is moved only at pivot layer or
+	 * after it, so every path is reached once
+	 */
+	private static class Path {
+
+		private static final Comparator<Path> ORDER = Path::compare;
+
+		private final int[] positions;
+		private final int pivot;
+		private final double score;
+
+		/**
+		 * Path constructor
+		 * 
+		 * @param positions the ranked item index per layer
+		 * @param pivot     the first layer which may be moved
+		 * @param score     the path score
+		 */
+		private Path(int[] positions, int pivot, double score) {
+			this.positions = positions;
+			this.pivot = pivot;
+			this.score = score;
+		}
+
+		/**
+		 * Method to compare paths by descending score, then by positions
+		 * 
+		 * @param path1 the first path
+		 * @param path2 the second path
+		 * @return negative, zero or positive if first path goes before, is equal or
+		 *         goes after second path
+		 */
+		private static int compare(Path path1, Path path2) {
+			final int result = Double.compare(path2.score, path1.score);
+			if (result != 0) {
+				return result;
+			}
+
+			for (int i = 0; i < path1.positions.length; i++) {
+				if (path1.positions[i] != path2.positions[i]) {
+					return path1.positions[i] - path2.positions[i];
+				}
+			}
+
+			return 0;
+		}
+
+	}
+
+	/**
+	 * SNR Ranked Iterator constructor based on SNR lattice and item scores
+	 * 
+	 * @param lattice    the SNR lattice
+	 * @param itemScores the score of every item per layer
+	 */
+	SNRRankedIterator(SNRLattice lattice, double[][] itemScores) {
+		LangHelper.notNull(lattice);
+		LangHelper.notNull(itemScores);
+
+		final int layerCount = lattice.getLayerCount();
+		if (itemScores.length != layerCount) {
+			throw new IllegalArgumentException();
+		}
+
+		this.lattice = lattice;
+		this.ranks = new int[layerCount][];
+		this.scores = new double[layerCount][];
+
+		for (int layer = 0; layer < layerCount; layer++) {
+			final double[] layerScores = itemScores[layer];
+			final int itemCount = lattice.getItemCount(layer);
+
+			// Stable sort by descending score, so ties keep layer item order
+			final Integer[] order = new Integer[itemCount];
+			for (int i = 0; i < itemCount; i++) {
+				order[i] = i;
+			}
+			Arrays.sort(order, (index1, index2) -> Double.compare(layerScores[index2], layerScores[index1]));
+
+			ranks[layer] = new int[itemCount];
+			scores[layer] = new double[itemCount];
+			for (int i = 0; i < itemCount; i++) {
+				ranks[layer][i] = order[i];
+				scores[layer][i] = layerScores[order[i]];
+			}
+		}
+
+		if (!lattice.isEmpty()) {
+			final int[] positions = new int[layerCount];
+			queue.add(new Path(positions, 0, score(positions)));
+		}
+
+		advance();
+	}
+
+	/**
+	 * Method to calculate path score as a sum of its item scores
+	 * 
+	 * @param positions the ranked item index per layer
+	 * @return the path score
+	 */
+	private double score(int[] positions) {
+		double score = 0;
+		for (int layer = 0; layer < positions.length; layer++) {
+			score += scores[layer][positions[layer]];
+		}
+
+		return score;
+	}
+
+	/**
+	 * Method to take the best path from queue and put paths next to it
+	 */
+	private void advance() {
+		if (queue.isEmpty()) {
+			next = null;
+			return;
+		}
+
+		final Path path = queue.poll();
+		final int[] positions = path.positions;
+
+		for (int layer = path.pivot; layer < positions.length; layer++) {
+			final int position = positions[layer] + 1;
+			if (position < ranks[layer].length) {
+				final int[] nextPositions = positions.clone();
+				nextPositions[layer] = position;
+				queue.add(new Path(nextPositions, layer, score(nextPositions)));
+			}
+		}
+
+		buffer.setLength(0);
+		for (int layer = 0; layer < positions.length; layer++) {
+			buffer.append(lattice.getItem(layer, ranks[layer][positions[layer]]));
+		}
+
+		next = buffer.toString();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return LangHelper.isNotNull(next);
+	}
+
+	@Override
+	public String next() {
+		if (LangHelper.isNull(next)) {
+			throw new NoSuchElementException();
+		}
+
+		final String combination = next;
+
+		advance();
+
+		return combination;
+	}
+
+}
@@ -0,0 +1,225 @@
+package com.github.kindratsm.snr.engines;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+
+import com.github.kindratsm.snr.enums.SNRCountry;
+import com.github.kindratsm.snr.enums.SNRGroupType;
+import com.github.kindratsm.snr.helpers.LangHelper;
+import com.github.kindratsm.snr.helpers.SNRHelper;
+import com.github.kindratsm.snr.models.SNRGroup;
+import com.github.kindratsm.snr.models.SNRLattice;
+import com.github.kindratsm.snr.models.SNRPhoneNumber;
+
+/**
+ * SNR Session, incremental recognition of input which is changed at the end
+ * (e.g. as-you-type input). Session keeps SNR groups and their possible number
+ * interpretations, so on update only groups after the common prefix of old and
+ * new input are split and processed again, together with previous modulus group
+ * which depends on its next group. Session is not thread-safe
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRSession {
+
+	private final SNREngine engine;
+
+	private String input = "";
+	private SNRGroup[] groups = new SNRGroup[0];
+	private int[] groupEnds = new int[0];
+	private String[][] layers = new String[0][];
+	private SNRLattice lattice = new SNRLattice(layers);
+	private int processedGroupCount;
+
+	/**
+	 * SNR Session constructor based on SNR engine
+	 * 
+	 * @param engine the SNR engine
+	 */
+	SNRSession(SNREngine engine) {
+		LangHelper.notNull(engine);
+
+		this.engine = engine;
+	}
+
+	/**
+	 * Method to update session input, session is not changed if new input is
+	 * invalid
+	 * 
+	 * @param input the new input
+	 */
+	public void update(String input) {
+		LangHelper.notNull(input);
+
+		// Find common prefix of old and new input
+		final int prefixLength = commonPrefixLength(this.input, input);
+
+		// Keep groups which are within common prefix and still followed by separator
+		int keepCount = 0;
+		while (keepCount < groups.length && groupEnds[keepCount] <= prefixLength
+				&& groupEnds[keepCount] < input.length()
+				&& SNRHelper.isWhitespace(input.charAt(groupEnds[keepCount]))) {
+			keepCount++;
+		}
+
+		// Split only tail of input after kept groups
+		final int tailStart = keepCount == 0 ? 0 : groupEnds[keepCount - 1] + 1;
+		final String tail = input.substring(tailStart);
+
+		final SNRGroup[] tailGroups;
+		int tailOffset = tailStart;
+		if (tail.trim().isEmpty()) {
+			tailGroups = new SNRGroup[0];
+		} else if (keepCount > 0 && tail.charAt(0) <= ' ') {
+			// Kept group is followed by several whitespaces
+			throw new IllegalArgumentException(String.format("Invalid inpupt [%s]", input.trim()));
+		} else {
+			tailGroups = SNRHelper.splitInputToGroups(tail);
+			tailOffset += tail.indexOf(tailGroups[0].getInput());
+		}
+
+		// Build new groups and their end offsets
+		final SNRGroup[] groups = new SNRGroup[keepCount + tailGroups.length];
+		final int[] groupEnds = new int[groups.length];
+		System.arraycopy(this.groups, 0, groups, 0, keepCount);
+		System.arraycopy(this.groupEnds, 0, groupEnds, 0, keepCount);
+		for (int i = 0; i < tailGroups.length; i++) {
+			groups[keepCount + i] = tailGroups[i];
+			groupEnds[keepCount + i] = tailOffset + tailGroups[i].getInput().length();
+			tailOffset = groupEnds[keepCount + i] + 1;
+		}
+
+		// Process new groups and previous modulus group which depends on next group
+		int from = keepCount;
+		if (from > 0 && groups[from - 1].getType() == SNRGroupType.MODULUS) {
+			from--;
+		}
+
+		final String[][] layers = new String[groups.length][];
+		final SNRLatticeBuilder builder = new SNRLatticeBuilder(groups.length, null);
+		System.arraycopy(this.layers, 0, layers, 0, from);
+		for (int i = 0; i < groups.length; i++) {
+			if (i >= from) {
+				layers[i] = engine.processGroup(groups, i);
+			}
+			builder.add(groups[i].getInput(), layers[i]);
+		}
+
+		this.input = input;
+		this.groups = groups;
+		this.groupEnds = groupEnds;
+		this.layers = layers;
+		this.lattice = builder.build();
+		this.processedGroupCount = groups.length - from;
+	}
+
+	/**
+	 * Method to get length of common prefix
+	 * 
+	 * @param first  the first string
+	 * @param second the second string
+	 * @return the length of common prefix
+	 */
+	private static int commonPrefixLength(String first, String second) {
+		final int length = Math.min(first.length(), second.length());
+
+		int i = 0;
+		while (i < length && first.charAt(i) == second.charAt(i)) {
+			i++;
+		}
+
+		return i;
+	}
+
+	/**
+	 * Input getter
+	 * 
+	 * @return the current input
+	 */
+	public String getInput() {
+		return input;
+	}
+
+	/**
+	 * Group count getter
+	 * 
+	 * @return the amount of SNR groups of current input
+	 */
+	public int getGroupCount() {
+		return groups.length;
+	}
+
+	/**
+	 * Processed group count getter
+	 * 
+	 * @return the amount of SNR groups processed by last update
+	 */
+	public int getProcessedGroupCount() {
+		return processedGroupCount;
+	}
+
+	/**
+	 * Lattice getter
+	 * 
+	 * @return the SNR lattice of current input
+	 */
+	public SNRLattice getLattice() {
+		return lattice;
+	}
+
+	/**
+	 * Method to count any possible number interpretations of current input
+	 * 
+	 * @return count of any possible number interpretations
+	 */
+	public BigInteger countInterpretations() {
+		return engine.countInterpretations(lattice);
+	}
+
+	/**
+	 * Method to lazily iterate over any possible number interpretations of current
+	 * input
+	 * 
+	 * @return iterator over any possible number interpretations
+	 */
+	public Iterator<String> iterate() {
+		return new SNRInterpretationIterator(lattice);
+	}
+
+	/**
+	 * Method to get random access to any possible number interpretations of
+	 * current input in natural order
+	 * 
+	 * @return random access to any possible number interpretations
+	 */
+	public SNRInterpretations interpretations() {
+		return new SNRInterpretations(lattice);
+	}
+
+	/**
+	 * Method to build array of any possible number interpretations of current
+	 * input
+	 * 
+	 * @return array of any possible number interpretations or null if input is
+	 *         empty
+	 */
+	public String[] recognize() {
+		return engine.buildOutput(lattice);
+	}
+
+	/**
+	 * Method to build array of any possible phone numbers interpretations of
+	 * current input
+	 * 
+	 * @param country the country
+	 * @return array of any possible phone numbers interpretations or null if input
+	 *         is empty
+	 */
+	public SNRPhoneNumber[] recognize(SNRCountry country) {
+		LangHelper.notNull(country);
+
+		return engine.buildPhoneNumbers(country, recognize());
+	}
+
+}
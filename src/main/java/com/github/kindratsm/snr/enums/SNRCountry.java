@@ -10,19 +10,61 @@ import java.util.regex.Pattern;
  */
 public enum SNRCountry {
 
-	USA("^[\\d]{10}$|^001[\\d]{10}$"),
-	GREECE("^[\\d]{10}$|^0030[\\d]{10}$"),
-	RUSSIA("^[\\d]{10}$|^007[\\d]{10}$|^8[\\d]{10}$");
+	USA(10, "", "001"),
+	GREECE(10, "", "0030"),
+	RUSSIA(10, "", "007", "8");
 
 	private final Pattern phonePattern;
 
 	/**
-	 * SNR Country constructor based on phone format
+	 * Length of national phone number without prefix
+	 */
+	private final int numberLength;
+
+	/**
+	 * Prefixes accepted before national phone number
+	 */
+	private final String[] prefixes;
+
+	/**
+	 * Numeric values of prefixes
+	 */
+	private final long[] prefixValues;
+
+	/**
+	 * Power of ten of national phone number length
+	 */
+	private final long numberModulus;
+
+	/**
+	 * SNR Country constructor based on phone format, any of prefixes followed by
+	 * provided amount of digits
 	 * 
-	 * @param phoneFormat the phone format
+	 * @param numberLength the national phone number length
+	 * @param prefixes     the phone number prefixes
 	 */
-	private SNRCountry(String phoneFormat) {
-		this.phonePattern = Pattern.compile(phoneFormat);
+	private SNRCountry(int numberLength, String... prefixes) {
+		this.numberLength = numberLength;
+		this.prefixes = prefixes;
+		this.prefixValues = new long[prefixes.length];
+		for (int i = 0; i < prefixes.length; i++) {
+			this.prefixValues[i] = prefixes[i].isEmpty() ? 0 : Long.parseLong(prefixes[i]);
+		}
+
+		long numberModulus = 1;
+		for (int i = 0; i < numberLength; i++) {
+			numberModulus *= 10;
+		}
+		this.numberModulus = numberModulus;
+
+		final StringBuilder phoneFormat = new StringBuilder();
+		for (String prefix : prefixes) {
+			if (phoneFormat.length() > 0) {
+				phoneFormat.append('|');
+			}
+			phoneFormat.append(String.format("^%s[\\d]{%d}$", prefix, numberLength));
+		}
+		this.phonePattern = Pattern.compile(phoneFormat.toString());
 	}
 
 	/**
@@ -34,4 +76,101 @@ public enum SNRCountry {
 		return phonePattern;
 	}
 
+	/**
+	 * Method to check does phone number of provided length may be valid
+	 * 
+	 * @param length the phone number length
+	 * @return does phone number of provided length may be valid
+	 */
+	public boolean isPhoneLength(int length) {
+		for (String prefix : prefixes) {
+			if (prefix.length() + numberLength == length) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Max phone length getter
+	 * 
+	 * @return the maximum length of valid phone number
+	 */
+	public int getMaxPhoneLength() {
+		int maxLength = 0;
+		for (String prefix : prefixes) {
+			maxLength = Math.max(maxLength, prefix.length() + numberLength);
+		}
+
+		return maxLength;
+	}
+
+	/**
+	 * Method to check does phone number is valid without regex and allocations,
+	 * equivalent of phone pattern match
+	 * 
+	 * @param number the phone number
+	 * @return does phone number is valid
+	 */
+	public boolean isValidPhoneNumber(CharSequence number) {
+		if (number == null) {
+			return false;
+		}
+
+		final int length = number.length();
+		for (String prefix : prefixes) {
+			if (prefix.length() + numberLength == length && isValidPhoneNumber(number, prefix)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Method to check does phone number encoded as unsigned value and length in
+	 * digits is valid, digits of the same length are equal if their values are
+	 * equal
+	 * 
+	 * @param value  the unsigned value of phone number
+	 * @param length the length of phone number in digits
+	 * @return does phone number is valid
+	 */
+	public boolean isValidPhoneNumber(long value, int length) {
+		for (int i = 0; i < prefixes.length; i++) {
+			if (prefixes[i].length() + numberLength == length
+					&& Long.divideUnsigned(value, numberModulus) == prefixValues[i]) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Method to check does phone number starts with prefix followed by digits
+	 * 
+	 * @param number the phone number
+	 * @param prefix the prefix
+	 * @return does phone number starts with prefix followed by digits
+	 */
+	private static boolean isValidPhoneNumber(CharSequence number, String prefix) {
+		final int prefixLength = prefix.length();
+		for (int i = 0; i < prefixLength; i++) {
+			if (number.charAt(i) != prefix.charAt(i)) {
+				return false;
+			}
+		}
+
+		for (int i = prefixLength; i < number.length(); i++) {
+			final char c = number.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 }
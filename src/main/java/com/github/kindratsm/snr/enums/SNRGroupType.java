@@ -0,0 +1,32 @@
+package com.github.kindratsm.snr.enums;
+
+/**
+ * SNR Group Type enum
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public enum SNRGroupType {
+
+	/**
+	 * Single non zero number group (e.g. 5)
+	 */
+	SINGLE_NUMBER,
+	/**
+	 * Zero or combination of zeros group (e.g. 0, 00)
+	 */
+	ZEROS,
+	/**
+	 * Modulus group (e.g. 10, 2000, 3330)
+	 */
+	MODULUS,
+	/**
+	 * Group with leading zeros (e.g. 05, 0012)
+	 */
+	LEADING_ZEROS,
+	/**
+	 * Complex group (e.g. 35, 305, 1025)
+	 */
+	COMPLEX;
+
+}
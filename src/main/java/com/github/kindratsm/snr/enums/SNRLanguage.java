@@ -18,6 +18,11 @@ public enum SNRLanguage {
 	 */
 	private final int limit;
 
+	/**
+	 * Digits of limit to compare numbers of any length digit by digit
+	 */
+	private final char[] limitDigits;
+
 	/**
 	 * SNR Language constructor
 	 * 
@@ -25,6 +30,7 @@ public enum SNRLanguage {
 	 */
 	private SNRLanguage(int limit) {
 		this.limit = limit;
+		this.limitDigits = String.valueOf(limit).toCharArray();
 	}
 
 	/**
@@ -36,4 +42,33 @@ public enum SNRLanguage {
 		return limit;
 	}
 
+	/**
+	 * Method to check does number of digits range is above limit, digits are
+	 * compared one by one, so number may be of any length
+	 * 
+	 * @param digits the digits
+	 * @param from   the first digit index (inclusive)
+	 * @param to     the last digit index (exclusive)
+	 * @return does number is above limit
+	 */
+	public boolean isAboveLimit(char[] digits, int from, int to) {
+		// Skip leading zeros
+		while (from < to && digits[from] == '0') {
+			from++;
+		}
+
+		final int length = to - from;
+		if (length != limitDigits.length) {
+			return length > limitDigits.length;
+		}
+
+		for (int i = 0; i < length; i++) {
+			if (digits[from + i] != limitDigits[i]) {
+				return digits[from + i] > limitDigits[i];
+			}
+		}
+
+		return false;
+	}
+
 }
@@ -0,0 +1,90 @@
+package com.github.kindratsm.snr.flows;
+
+/**
+ * SNR Flow, interfaces of demand driven publish-subscribe (e.g. reactive
+ * streams) with the same shape as java.util.concurrent.Flow, so they can be
+ * adapted to it one to one on Java 9 and above
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public final class SNRFlow {
+
+	/**
+	 * SNR Flow private constructor
+	 */
+	private SNRFlow() {
+	}
+
+	/**
+	 * Publisher of items which are emitted only on subscriber demand
+	 * 
+	 * @param <T> the item type
+	 */
+	@FunctionalInterface
+	public interface Publisher<T> {
+
+		/**
+		 * Method to add subscriber, subscriber receives subscription first
+		 * 
+		 * @param subscriber the subscriber
+		 */
+		void subscribe(Subscriber<? super T> subscriber);
+
+	}
+
+	/**
+	 * Subscriber of items, signals are never sent concurrently
+	 * 
+	 * @param <T> the item type
+	 */
+	public interface Subscriber<T> {
+
+		/**
+		 * Method called once before any other signal
+		 * 
+		 * @param subscription the subscription to request items or cancel
+		 */
+		void onSubscribe(Subscription subscription);
+
+		/**
+		 * Method called for every item, no more than requested
+		 * 
+		 * @param item the item
+		 */
+		void onNext(T item);
+
+		/**
+		 * Method called once if publisher fails, no signals follow
+		 * 
+		 * @param throwable the failure
+		 */
+		void onError(Throwable throwable);
+
+		/**
+		 * Method called once if every item was emitted, no signals follow
+		 */
+		void onComplete();
+
+	}
+
+	/**
+	 * Subscription which links publisher and subscriber
+	 */
+	public interface Subscription {
+
+		/**
+		 * Method to request more items, not positive amount is reported as error
+		 * 
+		 * @param n the amount of items
+		 */
+		void request(long n);
+
+		/**
+		 * Method to stop receiving items, items may still be received for a while
+		 */
+		void cancel();
+
+	}
+
+}
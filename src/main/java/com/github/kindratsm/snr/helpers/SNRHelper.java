@@ -1,28 +1,72 @@
 package com.github.kindratsm.snr.helpers;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import com.github.kindratsm.snr.enums.SNRGroupType;
 import com.github.kindratsm.snr.models.SNRGroup;
 
 /**
- * String Number Recognition (SNR) Helper to unify validation and split logic
+ * String Number Recognition (SNR) Helper to unify validation and split logic.
+ * Validation, split and classification are done by scanning input chars
+ * without regular expressions
  * 
  * @author Stanislav Kindrat
  *
  */
 public class SNRHelper {
 
-	private static final Pattern INPUT_PATTERN = Pattern.compile("^\\d+(\\s\\d+)*$");
-	private static final Pattern INPUT_SPLIT_PATTERN = Pattern.compile("\\d+");
-	private static final Pattern GROUP_PATTERN = Pattern.compile("^\\d+$");
-	private static final Pattern MODULUS_PATTERN = Pattern.compile("^[1-9]+[0]+$");
-	private static final Pattern ZEROS_PATTERN = Pattern.compile("^[0]+$");
-	private static final Pattern LEADING_ZEROS_PATTERN = Pattern.compile("^[0]+[1-9]+$");
 	private static final char ZERO = '0';
 
+	/**
+	 * Method to check does char is digit (equivalent of regex \d)
+	 * 
+	 * @param c the char
+	 * @return does char is digit
+	 */
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Method to check does char is whitespace (equivalent of regex \s)
+	 * 
+	 * @param c the char
+	 * @return does char is whitespace
+	 */
+	public static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	/**
+	 * Method to check does input is digits groups separated by single whitespace
+	 * 
+	 * @param input the input
+	 * @return does input is match system format
+	 */
+	public static boolean isValidInput(String input) {
+		LangHelper.notNull(input);
+
+		final int length = input.length();
+		if (length == 0) {
+			return false;
+		}
+
+		boolean previousIsDigit = false;
+		for (int i = 0; i < length; i++) {
+			final char c = input.charAt(i);
+			if (isDigit(c)) {
+				previousIsDigit = true;
+			} else if (previousIsDigit && isWhitespace(c)) {
+				previousIsDigit = false;
+			} else {
+				return false;
+			}
+		}
+
+		return previousIsDigit;
+	}
+
 	/**
 	 * Validate method to ensure that input is match system format
 	 * 
@@ -31,13 +75,46 @@ public class SNRHelper {
 	public static void validateInput(String input) {
 		LangHelper.notNull(input);
 
-		if (LangHelper.isNotMatch(INPUT_PATTERN, input)) {
+		if (!isValidInput(input)) {
 			throw new IllegalArgumentException(String.format("Invalid inpupt [%s]", input));
 		}
 	}
 
 	/**
-	 * Method to split input to SNR groups
+	 * Method to normalize input the same way as it is split to SNR groups, input
+	 * is trimmed and every whitespace is replaced by space, so inputs with the
+	 * same groups are equal
+	 * 
+	 * @param input the input
+	 * @return the normalized input
+	 */
+	public static String normalizeInput(String input) {
+		LangHelper.notNull(input);
+
+		// Trim input
+		input = input.trim();
+
+		final int length = input.length();
+		for (int i = 0; i < length; i++) {
+			final char c = input.charAt(i);
+			if (c != ' ' && isWhitespace(c)) {
+				final char[] array = input.toCharArray();
+				for (int j = i; j < length; j++) {
+					if (isWhitespace(array[j])) {
+						array[j] = ' ';
+					}
+				}
+
+				return new String(array);
+			}
+		}
+
+		return input;
+	}
+
+	/**
+	 * Method to split input to SNR groups. Input is validated, split and every
+	 * group is classified in a single pass over input chars
 	 * 
 	 * @param input the input
 	 * @return array of SNR groups
@@ -48,18 +125,77 @@ public class SNRHelper {
 		// Trim input
 		input = input.trim();
 
-		SNRHelper.validateInput(input);
+		final int length = input.length();
+		final List<SNRGroup> groups = new ArrayList<SNRGroup>();
 
-		final List<SNRGroup> groups = new LinkedList<SNRGroup>();
+		int start = 0;
+		int runs = 0;
+		boolean previousIsZero = false;
+		for (int i = 0; i <= length; i++) {
+			final char c = i < length ? input.charAt(i) : ' ';
+			if (isDigit(c)) {
+				final boolean isZero = c == ZERO;
 
-		final Matcher m = INPUT_SPLIT_PATTERN.matcher(input);
-		while (m.find()) {
-			groups.add(new SNRGroup(m.group()));
+				// Count runs of zeros and non zeros (e.g. 3050 has 4 runs)
+				if (i == start || isZero != previousIsZero) {
+					runs++;
+				}
+				previousIsZero = isZero;
+			} else if (i > start && isWhitespace(c)) {
+				final boolean firstIsZero = input.charAt(start) == ZERO;
+				groups.add(new SNRGroup(input.substring(start, i), classifyGroup(i - start, runs, firstIsZero)));
+
+				start = i + 1;
+				runs = 0;
+			} else {
+				throw new IllegalArgumentException(String.format("Invalid inpupt [%s]", input));
+			}
 		}
 
 		return groups.toArray(new SNRGroup[groups.size()]);
 	}
 
+	/**
+	 * Method to classify group based on its shape
+	 * 
+	 * @param length      the group length
+	 * @param runs        the count of zeros and non zeros runs
+	 * @param firstIsZero does group starts with zero
+	 * @return the SNR group type
+	 */
+	private static SNRGroupType classifyGroup(int length, int runs, boolean firstIsZero) {
+		if (runs == 1 && firstIsZero) {
+			return SNRGroupType.ZEROS;
+		} else if (length == 1) {
+			return SNRGroupType.SINGLE_NUMBER;
+		} else if (runs == 2 && !firstIsZero) {
+			return SNRGroupType.MODULUS;
+		} else if (runs == 2) {
+			return SNRGroupType.LEADING_ZEROS;
+		} else {
+			return SNRGroupType.COMPLEX;
+		}
+	}
+
+	/**
+	 * Method to classify group input
+	 * 
+	 * @param input the group input
+	 * @return the SNR group type
+	 */
+	public static SNRGroupType classifyGroup(String input) {
+		SNRHelper.validateGroup(input);
+
+		int runs = 0;
+		for (int i = 0; i < input.length(); i++) {
+			if (i == 0 || (input.charAt(i) == ZERO) != (input.charAt(i - 1) == ZERO)) {
+				runs++;
+			}
+		}
+
+		return classifyGroup(input.length(), runs, input.charAt(0) == ZERO);
+	}
+
 	/**
 	 * Validate method to ensure that input is match system group format
 	 * 
@@ -68,7 +204,12 @@ public class SNRHelper {
 	public static void validateGroup(String input) {
 		LangHelper.notNull(input);
 
-		if (LangHelper.isNotMatch(GROUP_PATTERN, input)) {
+		boolean valid = input.length() > 0;
+		for (int i = 0; valid && i < input.length(); i++) {
+			valid = isDigit(input.charAt(i));
+		}
+
+		if (!valid) {
 			throw new IllegalArgumentException(String.format("Invalid group [%s]", input));
 		}
 	}
@@ -82,7 +223,20 @@ public class SNRHelper {
 	public static boolean isModulusInput(String input) {
 		LangHelper.notNull(input);
 
-		return LangHelper.isMatch(MODULUS_PATTERN, input);
+		final int length = input.length();
+		final int zerosCount = countTrailingZeros(input);
+		if (zerosCount == 0 || zerosCount == length) {
+			return false;
+		}
+
+		for (int i = 0; i < length - zerosCount; i++) {
+			final char c = input.charAt(i);
+			if (c == ZERO || !isDigit(c)) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	/**
@@ -94,7 +248,7 @@ public class SNRHelper {
 	public static boolean isZerosInput(String input) {
 		LangHelper.notNull(input);
 
-		return LangHelper.isMatch(ZEROS_PATTERN, input);
+		return input.length() > 0 && countTrailingZeros(input) == input.length();
 	}
 
 	/**
@@ -108,9 +262,8 @@ public class SNRHelper {
 
 		int zerosCount = 0;
 
-		final char[] array = input.toCharArray();
-		for (int i = array.length - 1; i >= 0; i--) {
-			if (array[i] == ZERO) {
+		for (int i = input.length() - 1; i >= 0; i--) {
+			if (input.charAt(i) == ZERO) {
 				zerosCount++;
 			} else {
 				break;
@@ -144,7 +297,7 @@ public class SNRHelper {
 	}
 
 	/**
-	 * Method to check does input has leading zeros
+	 * Method to check does input has leading zeros (e.g. 05, 0012)
 	 * 
 	 * @param input the input
 	 * @return does input has leading zeros
@@ -152,7 +305,25 @@ public class SNRHelper {
 	public static boolean hasLeadingZeros(String input) {
 		LangHelper.notNull(input);
 
-		return LangHelper.isMatch(LEADING_ZEROS_PATTERN, input);
+		final int length = input.length();
+
+		int i = 0;
+		while (i < length && input.charAt(i) == ZERO) {
+			i++;
+		}
+
+		if (i == 0 || i == length) {
+			return false;
+		}
+
+		for (; i < length; i++) {
+			final char c = input.charAt(i);
+			if (c == ZERO || !isDigit(c)) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 }
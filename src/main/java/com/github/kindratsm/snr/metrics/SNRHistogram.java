@@ -0,0 +1,118 @@
+package com.github.kindratsm.snr.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SNR Histogram, lock-free histogram of non negative values (e.g. latency in
+ * nanoseconds). Every power of two range is split to a few linear sub buckets,
+ * so percentiles are reported with bounded relative error
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+	/**
+	 * Method to get bucket index of value
+	 * 
+	 * @param value the value
+	 * @return the bucket index
+	 */
+	private static int indexOf(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+
+		final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+
+		return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+	}
+
+	/**
+	 * Method to get the highest value of bucket
+	 * 
+	 * @param index the bucket index
+	 * @return the highest value of bucket
+	 */
+	private static long highestValueOf(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+
+		final int exponent = (index >> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+		final long width = 1L << (exponent - SUB_BUCKET_BITS);
+		final long lowest = (1L << exponent) + (index & (SUB_BUCKET_COUNT - 1)) * width;
+
+		return lowest + width - 1;
+	}
+
+	/**
+	 * Method to record value
+	 * 
+	 * @param value the value, negative value is recorded as zero
+	 */
+	public void record(long value) {
+		buckets.incrementAndGet(indexOf(Math.max(0, value)));
+	}
+
+	/**
+	 * Count getter
+	 * 
+	 * @return the amount of recorded values
+	 */
+	public long getCount() {
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			count += buckets.get(i);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Method to get percentile of recorded values
+	 * 
+	 * @param percentile the percentile (e.g. 50, 99, 99.9)
+	 * @return the highest value of bucket which contains percentile or zero if
+	 *         histogram is empty
+	 */
+	public long getPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException();
+		}
+
+		final long count = getCount();
+		if (count == 0) {
+			return 0;
+		}
+
+		final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+
+		long cumulative = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			cumulative += buckets.get(i);
+			if (cumulative >= rank) {
+				return highestValueOf(i);
+			}
+		}
+
+		return highestValueOf(BUCKET_COUNT - 1);
+	}
+
+	/**
+	 * Method to remove all recorded values
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			buckets.set(i, 0);
+		}
+	}
+
+}
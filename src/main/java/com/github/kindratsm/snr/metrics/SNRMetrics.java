@@ -0,0 +1,307 @@
+package com.github.kindratsm.snr.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.github.kindratsm.snr.enums.SNRLanguage;
+import com.github.kindratsm.snr.helpers.LangHelper;
+
+/**
+ * SNR Metrics of recognition pipeline based on striped counters and lock-free
+ * histograms. Metrics are enabled unless system property snr.metrics.disabled is
+ * set, disabled metrics are not created and not collected at all
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRMetrics implements SNRMetricsMBean {
+
+	/**
+	 * Does metrics are enabled, constant so disabled checks are removed by JIT
+	 */
+	public static final boolean ENABLED = !Boolean.getBoolean("snr.metrics.disabled");
+
+	private static final String OBJECT_NAME = "com.github.kindratsm.snr:type=SNREngine,language=%s";
+
+	private final LongAdder requestCount = new LongAdder();
+	private final LongAdder errorCount = new LongAdder();
+	private final LongAdder groupCount = new LongAdder();
+	private final LongAdder latticeNodeCount = new LongAdder();
+	private final LongAdder combinationCount = new LongAdder();
+	private final LongAdder validPhoneNumberCount = new LongAdder();
+
+	private final SNRHistogram splitLatency = new SNRHistogram();
+	private final SNRHistogram groupProcessingLatency = new SNRHistogram();
+	private final SNRHistogram enumerationLatency = new SNRHistogram();
+	private final SNRHistogram validationLatency = new SNRHistogram();
+
+	private final LongSupplier groupCacheHitCount;
+	private final LongSupplier groupCacheMissCount;
+	private final LongSupplier resultCacheHitCount;
+	private final LongSupplier resultCacheMissCount;
+
+	private volatile long shortGroupTableBuildNanos;
+	private volatile long shortGroupTableBytes;
+
+	/**
+	 * SNR Metrics constructor
+	 * 
+	 * @param groupCacheHitCount   the supplier of group cache hit count
+	 * @param groupCacheMissCount  the supplier of group cache miss count
+	 * @param resultCacheHitCount  the supplier of result cache hit count
+	 * @param resultCacheMissCount the supplier of result cache miss count
+	 */
+	public SNRMetrics(LongSupplier groupCacheHitCount, LongSupplier groupCacheMissCount,
+			LongSupplier resultCacheHitCount, LongSupplier resultCacheMissCount) {
+		LangHelper.notNull(groupCacheHitCount);
+		LangHelper.notNull(groupCacheMissCount);
+		LangHelper.notNull(resultCacheHitCount);
+		LangHelper.notNull(resultCacheMissCount);
+
+		this.groupCacheHitCount = groupCacheHitCount;
+		this.groupCacheMissCount = groupCacheMissCount;
+		this.resultCacheHitCount = resultCacheHitCount;
+		this.resultCacheMissCount = resultCacheMissCount;
+	}
+
+	/**
+	 * Method to register metrics as platform MBean per language, registration
+	 * failure does not affect recognition
+	 * 
+	 * @param language the language
+	 * @return does metrics are registered
+	 */
+	public boolean register(SNRLanguage language) {
+		LangHelper.notNull(language);
+
+		try {
+			final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			final ObjectName name = new ObjectName(String.format(OBJECT_NAME, language.name()));
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+			server.registerMBean(this, name);
+
+			return true;
+		} catch (JMException | SecurityException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Method to record short group table build
+	 * 
+	 * @param buildNanos the time of table build in nanoseconds
+	 * @param bytes      the estimated memory footprint of table in bytes
+	 */
+	public void setShortGroupTable(long buildNanos, long bytes) {
+		this.shortGroupTableBuildNanos = buildNanos;
+		this.shortGroupTableBytes = bytes;
+	}
+
+	/**
+	 * Method to record recognition request
+	 */
+	public void addRequest() {
+		requestCount.increment();
+	}
+
+	/**
+	 * Method to record recognition error
+	 */
+	public void addError() {
+		errorCount.increment();
+	}
+
+	/**
+	 * Method to record split stage
+	 * 
+	 * @param groups       the amount of groups
+	 * @param elapsedNanos the elapsed time in nanoseconds
+	 */
+	public void addSplit(int groups, long elapsedNanos) {
+		groupCount.add(groups);
+		splitLatency.record(elapsedNanos);
+	}
+
+	/**
+	 * Method to record group processing stage
+	 * 
+	 * @param nodes        the amount of lattice nodes
+	 * @param elapsedNanos the elapsed time in nanoseconds
+	 */
+	public void addGroupProcessing(int nodes, long elapsedNanos) {
+		latticeNodeCount.add(nodes);
+		groupProcessingLatency.record(elapsedNanos);
+	}
+
+	/**
+	 * Method to record enumeration stage
+	 * 
+	 * @param combinations the amount of emitted combinations
+	 * @param elapsedNanos the elapsed time in nanoseconds
+	 */
+	public void addEnumeration(long combinations, long elapsedNanos) {
+		combinationCount.add(combinations);
+		enumerationLatency.record(elapsedNanos);
+	}
+
+	/**
+	 * Method to record validation stage
+	 * 
+	 * @param validPhoneNumbers the amount of valid phone numbers
+	 * @param elapsedNanos      the elapsed time in nanoseconds
+	 */
+	public void addValidation(long validPhoneNumbers, long elapsedNanos) {
+		validPhoneNumberCount.add(validPhoneNumbers);
+		validationLatency.record(elapsedNanos);
+	}
+
+	@Override
+	public long getRequestCount() {
+		return requestCount.sum();
+	}
+
+	@Override
+	public long getErrorCount() {
+		return errorCount.sum();
+	}
+
+	@Override
+	public long getGroupCount() {
+		return groupCount.sum();
+	}
+
+	@Override
+	public long getLatticeNodeCount() {
+		return latticeNodeCount.sum();
+	}
+
+	@Override
+	public long getCombinationCount() {
+		return combinationCount.sum();
+	}
+
+	@Override
+	public long getValidPhoneNumberCount() {
+		return validPhoneNumberCount.sum();
+	}
+
+	@Override
+	public long getGroupCacheHitCount() {
+		return groupCacheHitCount.getAsLong();
+	}
+
+	@Override
+	public long getGroupCacheMissCount() {
+		return groupCacheMissCount.getAsLong();
+	}
+
+	@Override
+	public long getResultCacheHitCount() {
+		return resultCacheHitCount.getAsLong();
+	}
+
+	@Override
+	public long getResultCacheMissCount() {
+		return resultCacheMissCount.getAsLong();
+	}
+
+	@Override
+	public double getResultCacheHitRatio() {
+		final long hits = getResultCacheHitCount();
+		final long requests = hits + getResultCacheMissCount();
+
+		return requests == 0 ? 0 : (double) hits / requests;
+	}
+
+	@Override
+	public long getShortGroupTableBuildNanos() {
+		return shortGroupTableBuildNanos;
+	}
+
+	@Override
+	public long getShortGroupTableBytes() {
+		return shortGroupTableBytes;
+	}
+
+	@Override
+	public long getSplitLatencyP50() {
+		return splitLatency.getPercentile(50);
+	}
+
+	@Override
+	public long getSplitLatencyP99() {
+		return splitLatency.getPercentile(99);
+	}
+
+	@Override
+	public long getSplitLatencyP999() {
+		return splitLatency.getPercentile(99.9);
+	}
+
+	@Override
+	public long getGroupProcessingLatencyP50() {
+		return groupProcessingLatency.getPercentile(50);
+	}
+
+	@Override
+	public long getGroupProcessingLatencyP99() {
+		return groupProcessingLatency.getPercentile(99);
+	}
+
+	@Override
+	public long getGroupProcessingLatencyP999() {
+		return groupProcessingLatency.getPercentile(99.9);
+	}
+
+	@Override
+	public long getEnumerationLatencyP50() {
+		return enumerationLatency.getPercentile(50);
+	}
+
+	@Override
+	public long getEnumerationLatencyP99() {
+		return enumerationLatency.getPercentile(99);
+	}
+
+	@Override
+	public long getEnumerationLatencyP999() {
+		return enumerationLatency.getPercentile(99.9);
+	}
+
+	@Override
+	public long getValidationLatencyP50() {
+		return validationLatency.getPercentile(50);
+	}
+
+	@Override
+	public long getValidationLatencyP99() {
+		return validationLatency.getPercentile(99);
+	}
+
+	@Override
+	public long getValidationLatencyP999() {
+		return validationLatency.getPercentile(99.9);
+	}
+
+	@Override
+	public void reset() {
+		requestCount.reset();
+		errorCount.reset();
+		groupCount.reset();
+		latticeNodeCount.reset();
+		combinationCount.reset();
+		validPhoneNumberCount.reset();
+		splitLatency.reset();
+		groupProcessingLatency.reset();
+		enumerationLatency.reset();
+		validationLatency.reset();
+	}
+
+}
@@ -0,0 +1,200 @@
+package com.github.kindratsm.snr.metrics;
+
+/**
+ * SNR Metrics JMX MBean interface, latencies are reported in nanoseconds
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public interface SNRMetricsMBean {
+
+	/**
+	 * Request count getter
+	 * 
+	 * @return the amount of recognition requests including requests served by
+	 *         result cache
+	 */
+	long getRequestCount();
+
+	/**
+	 * Error count getter
+	 * 
+	 * @return the amount of failed recognition requests
+	 */
+	long getErrorCount();
+
+	/**
+	 * Group count getter
+	 * 
+	 * @return the amount of split SNR groups
+	 */
+	long getGroupCount();
+
+	/**
+	 * Lattice node count getter
+	 * 
+	 * @return the amount of possible number interpretations of SNR groups in
+	 *         built lattices
+	 */
+	long getLatticeNodeCount();
+
+	/**
+	 * Combination count getter
+	 * 
+	 * @return the amount of enumerated possible number interpretations
+	 */
+	long getCombinationCount();
+
+	/**
+	 * Valid phone number count getter
+	 * 
+	 * @return the amount of valid phone numbers
+	 */
+	long getValidPhoneNumberCount();
+
+	/**
+	 * Group cache hit count getter
+	 * 
+	 * @return the amount of group cache hits
+	 */
+	long getGroupCacheHitCount();
+
+	/**
+	 * Group cache miss count getter
+	 * 
+	 * @return the amount of group cache misses
+	 */
+	long getGroupCacheMissCount();
+
+	/**
+	 * Result cache hit count getter
+	 * 
+	 * @return the amount of result cache hits or zero if result cache is
+	 *         disabled
+	 */
+	long getResultCacheHitCount();
+
+	/**
+	 * Result cache miss count getter
+	 * 
+	 * @return the amount of result cache misses or zero if result cache is
+	 *         disabled
+	 */
+	long getResultCacheMissCount();
+
+	/**
+	 * Result cache hit ratio getter
+	 * 
+	 * @return the ratio of result cache hits to result cache requests or zero
+	 *         if result cache was not requested
+	 */
+	double getResultCacheHitRatio();
+
+	/**
+	 * Short group table build time getter
+	 * 
+	 * @return the time of short group table build in nanoseconds
+	 */
+	long getShortGroupTableBuildNanos();
+
+	/**
+	 * Short group table size getter
+	 * 
+	 * @return the estimated size of short group table in bytes
+	 */
+	long getShortGroupTableBytes();
+
+	/**
+	 * Split latency 50th percentile getter
+	 * 
+	 * @return the 50th percentile of split stage latency in nanoseconds
+	 */
+	long getSplitLatencyP50();
+
+	/**
+	 * Split latency 99th percentile getter
+	 * 
+	 * @return the 99th percentile of split stage latency in nanoseconds
+	 */
+	long getSplitLatencyP99();
+
+	/**
+	 * Split latency 99.9th percentile getter
+	 * 
+	 * @return the 99.9th percentile of split stage latency in nanoseconds
+	 */
+	long getSplitLatencyP999();
+
+	/**
+	 * Group processing latency 50th percentile getter
+	 * 
+	 * @return the 50th percentile of group processing stage latency in
+	 *         nanoseconds
+	 */
+	long getGroupProcessingLatencyP50();
+
+	/**
+	 * Group processing latency 99th percentile getter
+	 * 
+	 * @return the 99th percentile of group processing stage latency in
+	 *         nanoseconds
+	 */
+	long getGroupProcessingLatencyP99();
+
+	/**
+	 * Group processing latency 99.9th percentile getter
+	 * 
+	 * @return the 99.9th percentile of group processing stage latency in
+	 *         nanoseconds
+	 */
+	long getGroupProcessingLatencyP999();
+
+	/**
+	 * Enumeration latency 50th percentile getter
+	 * 
+	 * @return the 50th percentile of enumeration stage latency in nanoseconds
+	 */
+	long getEnumerationLatencyP50();
+
+	/**
+	 * Enumeration latency 99th percentile getter
+	 * 
+	 * @return the 99th percentile of enumeration stage latency in nanoseconds
+	 */
+	long getEnumerationLatencyP99();
+
+	/**
+	 * Enumeration latency 99.9th percentile getter
+	 * 
+	 * @return the 99.9th percentile of enumeration stage latency in
+	 *         nanoseconds
+	 */
+	long getEnumerationLatencyP999();
+
+	/**
+	 * Validation latency 50th percentile getter
+	 * 
+	 * @return the 50th percentile of validation stage latency in nanoseconds
+	 */
+	long getValidationLatencyP50();
+
+	/**
+	 * Validation latency 99th percentile getter
+	 * 
+	 * @return the 99th percentile of validation stage latency in nanoseconds
+	 */
+	long getValidationLatencyP99();
+
+	/**
+	 * Validation latency 99.9th percentile getter
+	 * 
+	 * @return the 99.9th percentile of validation stage latency in nanoseconds
+	 */
+	long getValidationLatencyP999();
+
+	/**
+	 * Method to reset counters and latencies
+	 */
+	void reset();
+
+}
@@ -0,0 +1,80 @@
+package com.github.kindratsm.snr.models;
+
+import com.github.kindratsm.snr.helpers.LangHelper;
+
+/**
+ * SNR Batch Result model, result of single input recognition in a batch which
+ * contains either phone numbers interpretations or recognition error
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRBatchResult {
+
+	private final String input;
+	private final SNRPhoneNumber[] phoneNumbers;
+	private final RuntimeException error;
+
+	/**
+	 * SNR Batch Result constructor based on recognized phone numbers
+	 * 
+	 * @param input        the input
+	 * @param phoneNumbers the phone numbers interpretations
+	 */
+	public SNRBatchResult(String input, SNRPhoneNumber[] phoneNumbers) {
+		this.input = input;
+		this.phoneNumbers = phoneNumbers;
+		this.error = null;
+	}
+
+	/**
+	 * SNR Batch Result constructor based on recognition error
+	 * 
+	 * @param input the input
+	 * @param error the recognition error
+	 */
+	public SNRBatchResult(String input, RuntimeException error) {
+		LangHelper.notNull(error);
+
+		this.input = input;
+		this.phoneNumbers = null;
+		this.error = error;
+	}
+
+	/**
+	 * Input getter
+	 * 
+	 * @return the input
+	 */
+	public String getInput() {
+		return input;
+	}
+
+	/**
+	 * Phone numbers getter
+	 * 
+	 * @return the phone numbers interpretations or null if recognition failed
+	 */
+	public SNRPhoneNumber[] getPhoneNumbers() {
+		return phoneNumbers;
+	}
+
+	/**
+	 * Error getter
+	 * 
+	 * @return the recognition error or null if recognition succeeded
+	 */
+	public RuntimeException getError() {
+		return error;
+	}
+
+	/**
+	 * Method to check does recognition succeeded
+	 * 
+	 * @return does recognition succeeded
+	 */
+	public boolean isSuccess() {
+		return LangHelper.isNull(error);
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.github.kindratsm.snr.models;
 
+import com.github.kindratsm.snr.enums.SNRGroupType;
 import com.github.kindratsm.snr.helpers.LangHelper;
 import com.github.kindratsm.snr.helpers.SNRHelper;
 
@@ -13,6 +14,7 @@ public class SNRGroup {
 
 	private final String input;
 	private final char[] array;
+	private final SNRGroupType type;
 
 	/**
 	 * SNR Group constructor based on input
@@ -20,10 +22,22 @@ public class SNRGroup {
 	 * @param input the input
 	 */
 	public SNRGroup(String input) {
-		SNRHelper.validateGroup(input);
+		this(input, SNRHelper.classifyGroup(input));
+	}
+
+	/**
+	 * SNR Group constructor based on already validated and classified input
+	 * 
+	 * @param input the input
+	 * @param type  the group type
+	 */
+	public SNRGroup(String input, SNRGroupType type) {
+		LangHelper.notNull(input);
+		LangHelper.notNull(type);
 
 		this.input = input;
 		this.array = input.toCharArray();
+		this.type = type;
 	}
 
 	/**
@@ -44,6 +58,15 @@ public class SNRGroup {
 		return array;
 	}
 
+	/**
+	 * Type getter
+	 * 
+	 * @return the group type
+	 */
+	public SNRGroupType getType() {
+		return type;
+	}
+
 	/**
 	 * Overridden equals method with additional validation of input equality
 	 */
@@ -66,4 +89,12 @@ public class SNRGroup {
 		return false;
 	}
 
+	/**
+	 * Overridden hash code method consistent with equals
+	 */
+	@Override
+	public int hashCode() {
+		return input.hashCode();
+	}
+
 }
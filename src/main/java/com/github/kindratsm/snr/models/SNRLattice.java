@@ -0,0 +1,285 @@
+package com.github.kindratsm.snr.models;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import com.github.kindratsm.snr.helpers.LangHelper;
+
+/**
+ * SNR Lattice which represents output items as layers of possible number
+ * interpretations, one layer per SNR group (or per merged SNR groups which may
+ * repeat paths otherwise). Every layer is shared by all paths, so any possible
+ * number interpretation is a path which takes one item from each layer. Layers
+ * sorted by {@link #ITEM_ORDER} give paths in natural order without duplicates
+ * when lattice is ordered (see {@link #isOrdered()})
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRLattice {
+
+	/**
+	 * Layer item order, items are in natural order except item goes before its
+	 * own prefix (e.g. 30, 3, 5)
+	 */
+	public static final Comparator<String> ITEM_ORDER = SNRLattice::compareItems;
+
+	private final String[][] layers;
+
+	/**
+	 * SNR Lattice constructor based on layers
+	 * 
+	 * @param layers the array of possible number interpretations per SNR group
+	 */
+	public SNRLattice(String[][] layers) {
+		LangHelper.notNull(layers);
+
+		for (String[] layer : layers) {
+			LangHelper.notNull(layer);
+		}
+
+		this.layers = layers;
+	}
+
+	/**
+	 * Method to compare layer items in item order
+	 * 
+	 * @param item1 the first item
+	 * @param item2 the second item
+	 * @return negative, zero or positive if first item goes before, is equal or
+	 *         goes after second item
+	 */
+	private static int compareItems(String item1, String item2) {
+		final int length = Math.min(item1.length(), item2.length());
+		for (int i = 0; i < length; i++) {
+			final char c1 = item1.charAt(i);
+			final char c2 = item2.charAt(i);
+			if (c1 != c2) {
+				return c1 - c2;
+			}
+		}
+
+		// Longer item goes before its prefix
+		return item2.length() - item1.length();
+	}
+
+	/**
+	 * Method to sort layer items in item order and drop duplicates, different
+	 * splits of group may build the same item (e.g. splits of inner zeros)
+	 * 
+	 * @param items the layer items, sorted in place
+	 * @return the sorted distinct layer items
+	 */
+	public static String[] sortDistinct(String[] items) {
+		LangHelper.notNull(items);
+
+		Arrays.sort(items, ITEM_ORDER);
+
+		int size = 0;
+		for (int i = 0; i < items.length; i++) {
+			if (size == 0 || !items[i].equals(items[size - 1])) {
+				items[size++] = items[i];
+			}
+		}
+
+		return size < items.length ? Arrays.copyOf(items, size) : items;
+	}
+
+	/**
+	 * Method to get the least first char of layer items
+	 * 
+	 * @param items the layer items
+	 * @return the least first char or zero if any item is empty
+	 */
+	private static char getMinFirstChar(String[] items) {
+		char minFirstChar = Character.MAX_VALUE;
+		for (String item : items) {
+			if (item.isEmpty()) {
+				return 0;
+			}
+			minFirstChar = (char) Math.min(minFirstChar, item.charAt(0));
+		}
+
+		return minFirstChar;
+	}
+
+	/**
+	 * Method to check does extension of item goes before any item of the next
+	 * layer, the first differing char decides it. Extension which is a prefix of
+	 * next item (or vice versa) is not decided by the next layer, so it is not
+	 * before
+	 * 
+	 * @param item             the item which goes before its prefix
+	 * @param from             the length of prefix
+	 * @param nextItems        the next layer items
+	 * @param nextMinFirstChar the least first char of next layer items
+	 * @return does extension goes before any item of the next layer
+	 */
+	private static boolean isBefore(String item, int from, String[] nextItems, char nextMinFirstChar) {
+		if (item.charAt(from) < nextMinFirstChar) {
+			return true;
+		}
+
+		for (String nextItem : nextItems) {
+			final int length = Math.min(item.length() - from, nextItem.length());
+
+			int i = 0;
+			while (i < length && item.charAt(from + i) == nextItem.charAt(i)) {
+				i++;
+			}
+
+			if (i == length || item.charAt(from + i) > nextItem.charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Method to check does layer and the next layer build distinct paths in
+	 * natural order. Layer must be strictly sorted by item order, and every item
+	 * which goes before its own prefix must continue with chars less than any item
+	 * of the next layer (e.g. 30 and 3 followed by 6 give 306 and 36, 200 and 2
+	 * followed by 05 give 20005 and 205). The last layer must be strictly sorted in
+	 * natural order. Layers are not ordered only if modulus is followed by group
+	 * with leading zeros (e.g. 5000 700000 00080)
+	 * 
+	 * @param items     the layer items
+	 * @param nextItems the next layer items or null if layer is the last one
+	 * @return does paths are distinct and in natural order
+	 */
+	public static boolean isOrdered(String[] items, String[] nextItems) {
+		LangHelper.notNull(items);
+
+		final boolean isLast = LangHelper.isNull(nextItems);
+		final char nextMinFirstChar = isLast ? 0 : getMinFirstChar(nextItems);
+
+		for (int i = 0; i < items.length; i++) {
+			if (items[i].isEmpty()) {
+				return false;
+			}
+
+			if (isLast) {
+				if (i > 0 && items[i - 1].compareTo(items[i]) >= 0) {
+					return false;
+				}
+				continue;
+			}
+
+			if (i > 0 && compareItems(items[i - 1], items[i]) >= 0) {
+				return false;
+			}
+
+			// Items which go before their prefix are right before it
+			for (int j = i - 1; j >= 0 && items[j].startsWith(items[i]); j--) {
+				if (!isBefore(items[j], items[i].length(), nextItems, nextMinFirstChar)) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Method to check does paths (e.g. odometer over layers) are distinct and in
+	 * natural order by construction, every layer is checked against the next one
+	 * (see {@link #isOrdered(String[], String[])})
+	 * 
+	 * @return does paths are distinct and in natural order
+	 */
+	public boolean isOrdered() {
+		for (int layer = 0; layer < layers.length; layer++) {
+			if (!isOrdered(layers[layer], layer < layers.length - 1 ? layers[layer + 1] : null)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Layer count getter
+	 * 
+	 * @return the count of layers
+	 */
+	public int getLayerCount() {
+		return layers.length;
+	}
+
+	/**
+	 * Method to get count of items in layer
+	 * 
+	 * @param layer the layer index
+	 * @return the count of items in layer
+	 */
+	public int getItemCount(int layer) {
+		LangHelper.inRange(layers, layer);
+
+		return layers[layer].length;
+	}
+
+	/**
+	 * Method to get layer item
+	 * 
+	 * @param layer the layer index
+	 * @param index the item index
+	 * @return the possible number interpretation of SNR group
+	 */
+	public String getItem(int layer, int index) {
+		LangHelper.inRange(layers, layer);
+
+		return layers[layer][index];
+	}
+
+	/**
+	 * Method to count items in all layers (e.g. lattice nodes)
+	 * 
+	 * @return the count of items in all layers
+	 */
+	public int getNodeCount() {
+		int count = 0;
+		for (String[] layer : layers) {
+			count += layer.length;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Method to count paths (e.g. possible number interpretations) as a product of
+	 * layer item counts
+	 * 
+	 * @return the count of paths
+	 */
+	public BigInteger getPathCount() {
+		BigInteger count = BigInteger.ONE;
+		for (String[] layer : layers) {
+			count = count.multiply(BigInteger.valueOf(layer.length));
+		}
+
+		return count;
+	}
+
+	/**
+	 * Method to check does lattice has no paths
+	 * 
+	 * @return does lattice has no paths
+	 */
+	public boolean isEmpty() {
+		if (layers.length == 0) {
+			return true;
+		}
+
+		for (String[] layer : layers) {
+			if (layer.length == 0) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+}
@@ -0,0 +1,183 @@
+package com.github.kindratsm.snr.models;
+
+import com.github.kindratsm.snr.enums.SNRCountry;
+import com.github.kindratsm.snr.helpers.LangHelper;
+
+/**
+ * SNR Number Array, compact form of number interpretations where every
+ * interpretation is encoded as unsigned long value and its length in digits
+ * (e.g. 0030 is encoded as value 30 and length 4, so 2 leading zeros).
+ * Interpretations are limited by max length of 19 digits
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRNumberArray {
+
+	/**
+	 * Max length of encoded interpretation in digits
+	 */
+	public static final int MAX_LENGTH = 19;
+
+	private final long[] values;
+	private final byte[] lengths;
+	private final int size;
+
+	/**
+	 * SNR Number Array constructor based on encoded interpretations
+	 * 
+	 * @param values  the unsigned values of interpretations
+	 * @param lengths the lengths of interpretations in digits
+	 * @param size    the amount of interpretations
+	 */
+	public SNRNumberArray(long[] values, byte[] lengths, int size) {
+		LangHelper.notNull(values);
+		LangHelper.notNull(lengths);
+
+		if (size < 0 || size > values.length || size > lengths.length) {
+			throw new IllegalArgumentException(String.format("Invalid size [%d]", size));
+		}
+
+		this.values = values;
+		this.lengths = lengths;
+		this.size = size;
+	}
+
+	/**
+	 * Size getter
+	 * 
+	 * @return the amount of interpretations
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Method to check does array has no interpretations
+	 * 
+	 * @return does array has no interpretations
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Method to check index of interpretation
+	 * 
+	 * @param index the index of interpretation
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IllegalArgumentException(String.format("Index out of range [%d]", index));
+		}
+	}
+
+	/**
+	 * Method to get unsigned value of interpretation
+	 * 
+	 * @param index the index of interpretation
+	 * @return the unsigned value of interpretation
+	 */
+	public long getValue(int index) {
+		checkIndex(index);
+
+		return values[index];
+	}
+
+	/**
+	 * Method to get length of interpretation
+	 * 
+	 * @param index the index of interpretation
+	 * @return the length of interpretation in digits
+	 */
+	public int getLength(int index) {
+		checkIndex(index);
+
+		return lengths[index];
+	}
+
+	/**
+	 * Method to get count of leading zeros of interpretation
+	 * 
+	 * @param index the index of interpretation
+	 * @return the count of leading zeros of interpretation
+	 */
+	public int getLeadingZeroCount(int index) {
+		checkIndex(index);
+
+		return lengths[index] - countDigits(values[index]);
+	}
+
+	/**
+	 * Method to check does interpretation is valid phone number without decoding
+	 * 
+	 * @param index   the index of interpretation
+	 * @param country the country
+	 * @return does interpretation is valid phone number
+	 */
+	public boolean isValidPhoneNumber(int index, SNRCountry country) {
+		LangHelper.notNull(country);
+		checkIndex(index);
+
+		return country.isValidPhoneNumber(values[index], lengths[index]);
+	}
+
+	/**
+	 * Method to decode interpretation
+	 * 
+	 * @param index the index of interpretation
+	 * @return the interpretation
+	 */
+	public String get(int index) {
+		checkIndex(index);
+
+		final String digits = Long.toUnsignedString(values[index]);
+		final int leadingZeroCount = lengths[index] - digits.length();
+		if (leadingZeroCount == 0) {
+			return digits;
+		}
+
+		final StringBuilder builder = new StringBuilder(lengths[index]);
+		for (int i = 0; i < leadingZeroCount; i++) {
+			builder.append('0');
+		}
+
+		return builder.append(digits).toString();
+	}
+
+	/**
+	 * Method to decode all interpretations
+	 * 
+	 * @return array of interpretations
+	 */
+	public String[] toArray() {
+		final String[] array = new String[size];
+		for (int i = 0; i < size; i++) {
+			array[i] = get(i);
+		}
+
+		return array;
+	}
+
+	/**
+	 * Method to count digits of unsigned value
+	 * 
+	 * @param value the unsigned value
+	 * @return the count of digits
+	 */
+	private static int countDigits(long value) {
+		if (value < 0) {
+			// Unsigned value above max long has 19 digits within max length
+			return MAX_LENGTH;
+		}
+
+		int count = 1;
+		while (value >= 10) {
+			value /= 10;
+			count++;
+		}
+
+		return count;
+	}
+
+}
@@ -22,12 +22,23 @@ public class SNRPhoneNumber {
 	 * @param interpretation the interpretation
 	 */
 	public SNRPhoneNumber(SNRCountry country, String interpretation) {
+		this(country, interpretation, LangHelper.isNotNull(country) && country.isValidPhoneNumber(interpretation));
+	}
+
+	/**
+	 * SNR Phone Number constructor based on already computed validity
+	 * 
+	 * @param country        the country
+	 * @param interpretation the interpretation
+	 * @param valid          is valid phone number
+	 */
+	public SNRPhoneNumber(SNRCountry country, String interpretation, boolean valid) {
 		LangHelper.notNull(country);
 		LangHelper.notNull(interpretation);
 
 		this.country = country;
 		this.interpretation = interpretation;
-		this.valid = LangHelper.isMatch(country.getPhonePattern(), interpretation);
+		this.valid = valid;
 	}
 
 	/**
@@ -82,4 +93,12 @@ public class SNRPhoneNumber {
 		return false;
 	}
 
+	/**
+	 * Overridden hash code method consistent with equals
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * country.hashCode() + interpretation.hashCode();
+	}
+
 }
@@ -0,0 +1,58 @@
+package com.github.kindratsm.snr.models;
+
+import com.github.kindratsm.snr.helpers.LangHelper;
+
+/**
+ * SNR Result model, limited recognition output which contains first
+ * interpretations and flag does other interpretations were not built
+ * 
+ * @author Stanislav Kindrat
+ *
+ * @param <T> the type of interpretation
+ */
+public class SNRResult<T> {
+
+	private final T[] items;
+	private final boolean truncated;
+
+	/**
+	 * SNR Result constructor
+	 * 
+	 * @param items     the interpretations
+	 * @param truncated does other interpretations were not built
+	 */
+	public SNRResult(T[] items, boolean truncated) {
+		LangHelper.notNull(items);
+
+		this.items = items;
+		this.truncated = truncated;
+	}
+
+	/**
+	 * Items getter
+	 * 
+	 * @return the interpretations
+	 */
+	public T[] getItems() {
+		return items;
+	}
+
+	/**
+	 * Truncated getter
+	 * 
+	 * @return does other interpretations were not built
+	 */
+	public boolean isTruncated() {
+		return truncated;
+	}
+
+	/**
+	 * Size getter
+	 * 
+	 * @return the amount of interpretations
+	 */
+	public int size() {
+		return items.length;
+	}
+
+}
@@ -0,0 +1,93 @@
+package com.github.kindratsm.snr.models;
+
+/**
+ * SNR Score Model, log-likelihood score of possible number interpretation of
+ * SNR group. Interpretation which keeps group digits as is scores zero, every
+ * inserted digit (e.g. 205 of 25) and every removed digit (e.g. 3 of 30
+ * followed by 6) adds its penalty, negative penalty makes interpretation more
+ * likely than input as is. Score of interpretation of input is a sum of its
+ * group scores
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRScoreModel {
+
+	/**
+	 * Default score model, every inserted or removed digit costs the same
+	 */
+	public static final SNRScoreModel DEFAULT = new SNRScoreModel(1, 1);
+
+	private final double insertionPenalty;
+	private final double removalPenalty;
+
+	/**
+	 * SNR Score Model constructor
+	 * 
+	 * @param insertionPenalty the penalty of every inserted digit
+	 * @param removalPenalty   the penalty of every removed digit
+	 */
+	public SNRScoreModel(double insertionPenalty, double removalPenalty) {
+		if (Double.isNaN(insertionPenalty) || Double.isNaN(removalPenalty) || Double.isInfinite(insertionPenalty)
+				|| Double.isInfinite(removalPenalty)) {
+			throw new IllegalArgumentException(
+					String.format("Invalid penalties [%s, %s]", insertionPenalty, removalPenalty));
+		}
+
+		this.insertionPenalty = insertionPenalty;
+		this.removalPenalty = removalPenalty;
+	}
+
+	/**
+	 * Method to learn score model from digit counts of confirmed interpretations
+	 * (e.g. dialled numbers), penalty is log odds of keeping digit against its
+	 * insertion or removal with add-one smoothing
+	 * 
+	 * @param keptCount     the amount of group digits kept as is
+	 * @param insertedCount the amount of inserted digits
+	 * @param removedCount  the amount of removed digits
+	 * @return the learned score model
+	 */
+	public static SNRScoreModel learn(long keptCount, long insertedCount, long removedCount) {
+		if (keptCount < 0 || insertedCount < 0 || removedCount < 0) {
+			throw new IllegalArgumentException(
+					String.format("Invalid counts [%d, %d, %d]", keptCount, insertedCount, removedCount));
+		}
+
+		final double kept = keptCount + 1.0;
+
+		return new SNRScoreModel(Math.log(kept / (insertedCount + 1)), Math.log(kept / (removedCount + 1)));
+	}
+
+	/**
+	 * Method to score possible number interpretation of SNR group
+	 * 
+	 * @param input the SNR group input
+	 * @param item  the possible number interpretation of SNR group
+	 * @return the score, zero if group digits are kept as is
+	 */
+	public double score(String input, String item) {
+		final int delta = item.length() - input.length();
+
+		return delta > 0 ? -insertionPenalty * delta : removalPenalty * delta;
+	}
+
+	/**
+	 * Insertion penalty getter
+	 * 
+	 * @return the penalty of every inserted digit
+	 */
+	public double getInsertionPenalty() {
+		return insertionPenalty;
+	}
+
+	/**
+	 * Removal penalty getter
+	 * 
+	 * @return the penalty of every removed digit
+	 */
+	public double getRemovalPenalty() {
+		return removalPenalty;
+	}
+
+}
@@ -0,0 +1,568 @@
+package com.github.kindratsm.snr.services;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.github.kindratsm.snr.engines.SNREngine;
+import com.github.kindratsm.snr.engines.SNRInterpretations;
+import com.github.kindratsm.snr.enums.SNRCountry;
+import com.github.kindratsm.snr.enums.SNRLanguage;
+import com.github.kindratsm.snr.helpers.LangHelper;
+import com.github.kindratsm.snr.models.SNRPhoneNumber;
+import com.github.kindratsm.snr.models.SNRResult;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * SNR HTTP Service based on JDK HTTP server which exposes recognize, count and
+ * validate endpoints. Parameters (language, country, input, limit, offset) are
+ * taken from query string, input may be sent as request body as well. Limit is
+ * capped by max limit, requests rejected by executor are answered by 503 status
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRHttpService {
+
+	/**
+	 * Max size of request body or query string in bytes
+	 */
+	public static final int MAX_REQUEST_SIZE = 64 * 1024;
+
+	/**
+	 * Default max amount of interpretations per response with limit
+	 */
+	public static final int DEFAULT_MAX_LIMIT = 10_000;
+
+	private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+	private static final int QUEUE_CAPACITY = 1024;
+	private static final String CONTENT_TYPE = "text/plain; charset=utf-8";
+
+	/**
+	 * Does current thread handles request rejected by executor
+	 */
+	private static final ThreadLocal<Boolean> REJECTED = ThreadLocal.withInitial(() -> false);
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final int maxLimit;
+
+	/**
+	 * Exception which is reported as HTTP error status
+	 */
+	private static class HttpException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int status;
+
+		/**
+		 * HTTP exception constructor
+		 * 
+		 * @param status  the HTTP status
+		 * @param message the message
+		 */
+		private HttpException(int status, String message) {
+			super(message);
+
+			this.status = status;
+		}
+
+	}
+
+	/**
+	 * Endpoint logic based on parsed request parameters
+	 */
+	@FunctionalInterface
+	private interface Endpoint {
+
+		/**
+		 * Method to write response
+		 * 
+		 * @param parameters the request parameters
+		 * @param exchange   the HTTP exchange
+		 * @throws IOException if response can not be written
+		 */
+		void handle(Map<String, String> parameters, HttpExchange exchange) throws IOException;
+
+	}
+
+	/**
+	 * SNR HTTP Service constructor
+	 * 
+	 * @param address  the socket address to bind
+	 * @param executor the executor to handle requests
+	 * @throws IOException if server can not be bound
+	 */
+	public SNRHttpService(InetSocketAddress address, ExecutorService executor) throws IOException {
+		this(address, executor, DEFAULT_MAX_LIMIT);
+	}
+
+	/**
+	 * SNR HTTP Service constructor
+	 * 
+	 * @param address  the socket address to bind
+	 * @param executor the executor to handle requests
+	 * @param maxLimit the max amount of interpretations per response with limit
+	 * @throws IOException if server can not be bound
+	 */
+	public SNRHttpService(InetSocketAddress address, ExecutorService executor, int maxLimit) throws IOException {
+		LangHelper.notNull(address);
+		LangHelper.notNull(executor);
+
+		if (maxLimit < 1) {
+			throw new IllegalArgumentException(String.format("Invalid max limit [%d]", maxLimit));
+		}
+
+		this.executor = executor;
+		this.maxLimit = maxLimit;
+		this.server = HttpServer.create(address, 0);
+		this.server.setExecutor(this::dispatch);
+		this.server.createContext("/recognize", handler(this::recognize));
+		this.server.createContext("/count", handler(this::count));
+		this.server.createContext("/validate", handler(this::validate));
+	}
+
+	/**
+	 * Method to create default executor, virtual thread per task executor when
+	 * runtime supports virtual threads, bounded thread pool which rejects requests
+	 * over queue capacity otherwise
+	 * 
+	 * @param threads the max amount of threads of bounded thread pool
+	 * @return the executor
+	 */
+	public static ExecutorService createDefaultExecutor(int threads) {
+		try {
+			final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+
+			return (ExecutorService) method.invoke(null);
+		} catch (ReflectiveOperationException ex) {
+			// Virtual threads are not supported
+		}
+
+		return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<Runnable>(QUEUE_CAPACITY));
+	}
+
+	/**
+	 * Method to dispatch exchange to executor, exchange rejected by executor is
+	 * answered by 503 status on HTTP server dispatcher thread. Rejected exchange
+	 * neither reads parameters nor recognizes input, so nothing is queued
+	 * 
+	 * @param exchange the HTTP server exchange task
+	 */
+	private void dispatch(Runnable exchange) {
+		try {
+			executor.execute(exchange);
+		} catch (RejectedExecutionException ex) {
+			REJECTED.set(true);
+			try {
+				exchange.run();
+			} finally {
+				REJECTED.remove();
+			}
+		}
+	}
+
+	/**
+	 * Method to start service
+	 */
+	public void start() {
+		server.start();
+	}
+
+	/**
+	 * Method to stop service and its executor
+	 * 
+	 * @param delay the max time in seconds to wait until exchanges are finished
+	 */
+	public void stop(int delay) {
+		server.stop(delay);
+		executor.shutdown();
+	}
+
+	/**
+	 * Bound address getter
+	 * 
+	 * @return the bound socket address
+	 */
+	public InetSocketAddress getAddress() {
+		return server.getAddress();
+	}
+
+	/**
+	 * Method to wrap endpoint to HTTP handler with request parsing and error
+	 * handling
+	 * 
+	 * @param endpoint the endpoint
+	 * @return the HTTP handler
+	 */
+	private HttpHandler handler(Endpoint endpoint) {
+		return exchange -> {
+			try {
+				if (REJECTED.get()) {
+					throw new HttpException(503, "Service is overloaded");
+				}
+
+				final String method = exchange.getRequestMethod();
+				if (!"GET".equals(method) && !"POST".equals(method)) {
+					throw new HttpException(405, String.format("Method not allowed [%s]", method));
+				}
+
+				endpoint.handle(parseParameters(exchange), exchange);
+			} catch (HttpException ex) {
+				sendError(exchange, ex.status, ex.getMessage());
+			} catch (IllegalArgumentException ex) {
+				sendError(exchange, 400, ex.getMessage());
+			} catch (RuntimeException ex) {
+				sendError(exchange, 500, String.format("%s: %s", ex.getClass().getName(), ex.getMessage()));
+			} finally {
+				exchange.close();
+			}
+		};
+	}
+
+	/**
+	 * Method to parse query string parameters, body is used as input parameter
+	 * 
+	 * @param exchange the HTTP exchange
+	 * @return the request parameters
+	 * @throws IOException if request can not be read
+	 */
+	private static Map<String, String> parseParameters(HttpExchange exchange) throws IOException {
+		final Map<String, String> parameters = new HashMap<>();
+
+		final String query = exchange.getRequestURI().getRawQuery();
+		if (LangHelper.isNotNull(query)) {
+			if (query.length() > MAX_REQUEST_SIZE) {
+				throw new HttpException(413, "Request is too large");
+			}
+
+			for (String pair : query.split("&")) {
+				final int index = pair.indexOf('=');
+				if (index > 0) {
+					parameters.put(decode(pair.substring(0, index)), decode(pair.substring(index + 1)));
+				}
+			}
+		}
+
+		final String body = readBody(exchange.getRequestBody());
+		if (!body.isEmpty()) {
+			parameters.put("input", body);
+		}
+
+		return parameters;
+	}
+
+	/**
+	 * Method to decode URL encoded value
+	 * 
+	 * @param value the URL encoded value
+	 * @return the decoded value
+	 */
+	private static String decode(String value) {
+		try {
+			return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+		} catch (UnsupportedEncodingException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Method to read request body limited by max request size
+	 * 
+	 * @param input the request body stream
+	 * @return the request body
+	 * @throws IOException if request can not be read
+	 */
+	private static String readBody(InputStream input) throws IOException {
+		final ByteArrayOutputStream body = new ByteArrayOutputStream();
+		final byte[] buffer = new byte[4096];
+
+		int read;
+		while ((read = input.read(buffer)) != -1) {
+			if (body.size() + read > MAX_REQUEST_SIZE) {
+				throw new HttpException(413, "Request is too large");
+			}
+			body.write(buffer, 0, read);
+		}
+
+		return new String(body.toByteArray(), StandardCharsets.UTF_8).trim();
+	}
+
+	/**
+	 * Method to get required parameter
+	 * 
+	 * @param parameters the request parameters
+	 * @param name       the parameter name
+	 * @return the parameter value
+	 */
+	private static String getParameter(Map<String, String> parameters, String name) {
+		final String value = parameters.get(name);
+		if (LangHelper.isNull(value)) {
+			throw new HttpException(400, String.format("Missing parameter [%s]", name));
+		}
+
+		return value;
+	}
+
+	/**
+	 * Method to get limit parameter capped by max limit
+	 * 
+	 * @param parameters the request parameters
+	 * @return the limit or null if parameter is absent
+	 */
+	private Integer getLimit(Map<String, String> parameters) {
+		final String value = parameters.get("limit");
+		if (LangHelper.isNull(value)) {
+			return null;
+		}
+
+		final int limit;
+		try {
+			limit = Integer.parseInt(value);
+		} catch (NumberFormatException ex) {
+			throw new HttpException(400, String.format("Invalid limit [%s]", value));
+		}
+
+		if (limit < 1) {
+			throw new HttpException(400, String.format("Invalid limit [%d]", limit));
+		}
+
+		return Math.min(limit, maxLimit);
+	}
+
+	/**
+	 * Method to get offset parameter
+	 * 
+	 * @param parameters the request parameters
+	 * @return the offset or null if parameter is absent
+	 */
+	private static Long getOffset(Map<String, String> parameters) {
+		final String value = parameters.get("offset");
+		if (LangHelper.isNull(value)) {
+			return null;
+		}
+
+		final long offset;
+		try {
+			offset = Long.parseLong(value);
+		} catch (NumberFormatException ex) {
+			throw new HttpException(400, String.format("Invalid offset [%s]", value));
+		}
+
+		if (offset < 0) {
+			throw new HttpException(400, String.format("Invalid offset [%d]", offset));
+		}
+
+		return offset;
+	}
+
+	/**
+	 * Method to get SNR engine based on language parameter
+	 * 
+	 * @param parameters the request parameters
+	 * @return the SNR engine
+	 */
+	private static SNREngine getEngine(Map<String, String> parameters) {
+		return SNREngine.getInstance(SNRLanguage.valueOf(getParameter(parameters, "language")));
+	}
+
+	/**
+	 * Method to get country parameter
+	 * 
+	 * @param parameters the request parameters
+	 * @return the country or null if parameter is absent
+	 */
+	private static SNRCountry getCountry(Map<String, String> parameters) {
+		final String country = parameters.get("country");
+
+		return LangHelper.isNull(country) ? null : SNRCountry.valueOf(country);
+	}
+
+	/**
+	 * Method to start streaming successful response of unknown length
+	 * 
+	 * @param exchange the HTTP exchange
+	 * @return the response writer
+	 * @throws IOException if response can not be written
+	 */
+	private static Writer openResponse(HttpExchange exchange) throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+		exchange.sendResponseHeaders(200, 0);
+
+		return new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8),
+				WRITE_BUFFER_SIZE);
+	}
+
+	/**
+	 * Method to send error response, error is not sent if response headers are
+	 * already sent (e.g. streaming endpoint failed in the middle of response), so
+	 * exchange is only closed
+	 * 
+	 * @param exchange the HTTP exchange
+	 * @param status   the HTTP status
+	 * @param message  the error message
+	 * @throws IOException if response can not be written
+	 */
+	private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+		// Response code is set once headers are sent
+		if (exchange.getResponseCode() != -1) {
+			return;
+		}
+
+		final byte[] body = String.format("%s\n", message).getBytes(StandardCharsets.UTF_8);
+
+		exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+		exchange.sendResponseHeaders(status, body.length);
+
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(body);
+		}
+	}
+
+	/**
+	 * Method to write interpretation line, with validity if country is provided
+	 * 
+	 * @param writer         the response writer
+	 * @param interpretation the interpretation
+	 * @param country        the country or null
+	 * @throws IOException if response can not be written
+	 */
+	private static void writeInterpretation(Writer writer, String interpretation, SNRCountry country)
+			throws IOException {
+		writer.write(interpretation);
+		if (LangHelper.isNotNull(country)) {
+			writer.write(country.isValidPhoneNumber(interpretation) ? "\tVALID" : "\tINVALID");
+		}
+		writer.write('\n');
+	}
+
+	/**
+	 * Recognize endpoint, streams every interpretation per line, with validity if
+	 * country is provided. If limit is provided only first interpretations are
+	 * built (the most likely first if ranked is true) and X-Truncated header tells
+	 * does output was truncated. If offset is provided page of limit
+	 * interpretations is taken by index and X-Total-Count header tells count of
+	 * interpretations. Limit is capped by max limit
+	 * 
+	 * @param parameters the request parameters
+	 * @param exchange   the HTTP exchange
+	 * @throws IOException if response can not be written
+	 */
+	private void recognize(Map<String, String> parameters, HttpExchange exchange) throws IOException {
+		final SNREngine engine = getEngine(parameters);
+		final SNRCountry country = getCountry(parameters);
+		final String input = getParameter(parameters, "input");
+		final Integer limit = getLimit(parameters);
+		final Long offset = getOffset(parameters);
+
+		if (LangHelper.isNotNull(offset)) {
+			if (LangHelper.isNull(limit)) {
+				throw new HttpException(400, "Missing parameter [limit]");
+			}
+
+			final SNRInterpretations interpretations = engine.interpretations(input);
+			final long from = offset;
+			final String[] page = interpretations.getPage(from, limit);
+
+			exchange.getResponseHeaders().set("X-Total-Count", interpretations.size().toString());
+			exchange.getResponseHeaders().set("X-Truncated",
+					String.valueOf(interpretations.size().compareTo(BigInteger.valueOf(from + page.length)) > 0));
+			try (Writer writer = openResponse(exchange)) {
+				for (String interpretation : page) {
+					writeInterpretation(writer, interpretation, country);
+				}
+			}
+
+			return;
+		}
+
+		if (LangHelper.isNotNull(limit)) {
+			final SNRResult<String> result = Boolean.parseBoolean(parameters.get("ranked"))
+					? engine.recognizeRanked(input, limit)
+					: engine.recognize(input, limit);
+
+			exchange.getResponseHeaders().set("X-Truncated", String.valueOf(result.isTruncated()));
+			try (Writer writer = openResponse(exchange)) {
+				for (String interpretation : result.getItems()) {
+					writeInterpretation(writer, interpretation, country);
+				}
+			}
+
+			return;
+		}
+
+		// Build lattice before response is started, so invalid input is reported as error
+		final Iterator<String> iterator = engine.iterate(input);
+
+		try (Writer writer = openResponse(exchange)) {
+			while (iterator.hasNext()) {
+				writeInterpretation(writer, iterator.next(), country);
+			}
+		}
+	}
+
+	/**
+	 * Count endpoint, returns count of interpretations
+	 * 
+	 * @param parameters the request parameters
+	 * @param exchange   the HTTP exchange
+	 * @throws IOException if response can not be written
+	 */
+	private void count(Map<String, String> parameters, HttpExchange exchange) throws IOException {
+		final SNREngine engine = getEngine(parameters);
+		final String count = engine.countInterpretations(getParameter(parameters, "input")).toString();
+
+		try (Writer writer = openResponse(exchange)) {
+			writer.write(count);
+			writer.write('\n');
+		}
+	}
+
+	/**
+	 * Validate endpoint, streams valid phone numbers per line
+	 * 
+	 * @param parameters the request parameters
+	 * @param exchange   the HTTP exchange
+	 * @throws IOException if response can not be written
+	 */
+	private void validate(Map<String, String> parameters, HttpExchange exchange) throws IOException {
+		final SNREngine engine = getEngine(parameters);
+		final SNRCountry country = getCountry(parameters);
+		if (LangHelper.isNull(country)) {
+			throw new HttpException(400, "Missing parameter [country]");
+		}
+
+		final SNRPhoneNumber[] phoneNumbers = engine.recognizeValid(country, getParameter(parameters, "input"));
+
+		try (Writer writer = openResponse(exchange)) {
+			for (SNRPhoneNumber phoneNumber : phoneNumbers) {
+				writer.write(phoneNumber.getInterpretation());
+				writer.write('\n');
+			}
+		}
+	}
+
+}
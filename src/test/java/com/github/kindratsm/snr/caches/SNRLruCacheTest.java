@@ -0,0 +1,63 @@
+package com.github.kindratsm.snr.caches;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SNR LRU Cache unit test
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRLruCacheTest {
+
+	SNRLruCache<String, String> cache;
+
+	@BeforeEach
+	void init() {
+		cache = new SNRLruCache<>(32);
+	}
+
+	@Test
+	void test() {
+		// Check data
+		assertNotNull(cache);
+		assertEquals(cache.getCapacity(), 32);
+		assertEquals(cache.size(), 0);
+
+		// Invalid capacity
+		assertThrows(IllegalArgumentException.class, () -> {
+			new SNRLruCache<String, String>(0);
+		});
+
+		// get and put
+		assertNull(cache.get("30"));
+		cache.put("30", "3");
+		assertEquals(cache.get("30"), "3");
+		assertEquals(cache.getHitCount(), 1);
+		assertEquals(cache.getMissCount(), 1);
+
+		// computeIfAbsent
+		assertEquals(cache.computeIfAbsent("69", key -> "609"), "609");
+		assertEquals(cache.computeIfAbsent("69", key -> "69"), "609");
+		assertEquals(cache.getHitCount(), 2);
+		assertEquals(cache.getMissCount(), 2);
+
+		// Eviction
+		for (int i = 0; i < 1000; i++) {
+			cache.put(String.valueOf(i), String.valueOf(i));
+		}
+		assertTrue(cache.size() <= cache.getCapacity());
+
+		// clear
+		cache.clear();
+		assertEquals(cache.size(), 0);
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.github.kindratsm.snr.caches;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SNR Weighted Cache unit test
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRWeightedCacheTest {
+
+	AtomicLong time;
+	SNRWeightedCache<String, String> cache;
+
+	@BeforeEach
+	void init() {
+		time = new AtomicLong();
+		cache = new SNRWeightedCache<>(16 * 10, 100, String::length, time::get);
+	}
+
+	@Test
+	void test() {
+		// Check data
+		assertNotNull(cache);
+		assertEquals(cache.getMaxWeight(), 160);
+		assertEquals(cache.getTtlNanos(), 100);
+		assertEquals(cache.size(), 0);
+
+		// Invalid max weight
+		assertThrows(IllegalArgumentException.class, () -> {
+			new SNRWeightedCache<String, String>(0, 0, String::length);
+		});
+
+		// get and put
+		assertNull(cache.get("30"));
+		assertTrue(cache.put("30", "3"));
+		assertEquals(cache.get("30"), "3");
+		assertEquals(cache.getWeight(), 1);
+		assertEquals(cache.getHitCount(), 1);
+		assertEquals(cache.getMissCount(), 1);
+		assertEquals(cache.getHitRatio(), 0.5);
+
+		// Value heavier than segment is not cached
+		assertFalse(cache.put("69", "12345678901"));
+		assertNull(cache.get("69"));
+
+		// Expiration
+		time.addAndGet(100);
+		assertNull(cache.get("30"));
+		assertEquals(cache.getWeight(), 0);
+
+		// Eviction by weight
+		for (int i = 0; i < 1000; i++) {
+			cache.put(String.valueOf(i), "0123456789");
+		}
+		assertTrue(cache.getWeight() <= cache.getMaxWeight());
+		assertTrue(cache.getEvictionCount() > 0);
+
+		// clear
+		cache.clear();
+		assertEquals(cache.size(), 0);
+		assertEquals(cache.getWeight(), 0);
+	}
+
+}
@@ -3,15 +3,34 @@ package com.github.kindratsm.snr.engines;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import com.github.kindratsm.snr.enums.SNRCountry;
 import com.github.kindratsm.snr.enums.SNRLanguage;
+import com.github.kindratsm.snr.flows.SNRFlow;
+import com.github.kindratsm.snr.metrics.SNRMetrics;
+import com.github.kindratsm.snr.models.SNRBatchResult;
+import com.github.kindratsm.snr.models.SNRNumberArray;
 import com.github.kindratsm.snr.models.SNRPhoneNumber;
+import com.github.kindratsm.snr.models.SNRResult;
+import com.github.kindratsm.snr.models.SNRScoreModel;
 
 /**
  * SNR Engine unit tests
@@ -156,6 +175,725 @@ public class SNREngineTest {
 		assertTrue(Arrays.asList(output).contains("00306097241352"));
 	}
 	
+	@Test
+	void streamInput1() {
+		String input = "0 0 30 69 700 24 1 3 50 2";
+
+		String[] output = SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.recognize(input);
+		Set<String> streamOutput = SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.stream(input)
+				.collect(Collectors.toSet());
+
+		assertNotNull(output);
+		assertEquals(streamOutput.size(), 16);
+		assertEquals(streamOutput, new HashSet<>(Arrays.asList(output)));
+	}
+
+	@Test
+	void streamInput2() {
+		String input = "25 25 25 25 25 25 25 25 25 25 25 25";
+
+		Iterator<String> iterator = SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.iterate(input);
+
+		assertTrue(iterator.hasNext());
+		// Interpretations are in natural order, so 205 goes before 25
+		assertEquals(iterator.next(), "205205205205205205205205205205205205");
+		assertTrue(iterator.hasNext());
+		assertEquals(SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.stream(input)
+				.limit(3)
+				.count(), 3);
+	}
+
+	@Test
+	void validPhoneInput1() {
+		String input = "2 10 69 30 6 6 4";
+
+		SNRPhoneNumber[] output = SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.recognizeValid(SNRCountry.GREECE, input);
+
+		assertNotNull(output);
+		assertEquals(output.length, 2);
+		assertNotNull(findPhoneInArray(output, "2106930664"));
+		assertNotNull(findPhoneInArray(output, "2106093664"));
+	}
+
+	@Test
+	void validPhoneInput2() {
+		String input = "0 0 30 69 700 24 1 3 50 2";
+
+		for (SNRCountry country : SNRCountry.values()) {
+			Set<SNRPhoneNumber> expected = Arrays.stream(SNREngine.getInstance(SNRLanguage.ENGLISH)
+					.recognize(country, input))
+					.filter(SNRPhoneNumber::isValid)
+					.collect(Collectors.toSet());
+			SNRPhoneNumber[] output = SNREngine.getInstance(SNRLanguage.ENGLISH)
+					.recognizeValid(country, input);
+
+			assertNotNull(output);
+			assertEquals(new HashSet<>(Arrays.asList(output)), expected);
+		}
+
+		assertEquals(SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.recognizeValid(SNRCountry.GREECE, input).length, 3);
+	}
+
+	@Test
+	void parallelInput1() {
+		String input = "0 0 30 69 700 24 1 3 50 2 30 5 6 40 7 25 4 90 1 12 8 60 3";
+
+		for (SNRLanguage language : SNRLanguage.values()) {
+			String[] output = SNREngine.getInstance(language)
+					.recognize(input);
+			String[] parallelOutput = SNREngine.getInstance(language)
+					.recognizeParallel(input);
+
+			assertNotNull(parallelOutput);
+			assertEquals(parallelOutput.length, output.length);
+			assertEquals(new HashSet<>(Arrays.asList(parallelOutput)), new HashSet<>(Arrays.asList(output)));
+			assertEquals(SNREngine.getInstance(language)
+					.parallelStream(input)
+					.count(), output.length);
+		}
+	}
+
+	@Test
+	void parallelInput2() {
+		StringBuilder input = new StringBuilder("25");
+		for (int i = 1; i < 80; i++) {
+			input.append(" 25");
+		}
+
+		// Count of paths does not fit to long, stream still splits and stops early
+		List<String> output = SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.parallelStream(input.toString())
+				.limit(1000)
+				.collect(Collectors.toList());
+
+		assertEquals(output.size(), 1000);
+		assertEquals(new HashSet<>(output).size(), 1000);
+		assertEquals(output.get(0), input.toString().replace("25", "205").replace(" ", ""));
+	}
+
+	@Test
+	void streamPhoneInput1() {
+		String input = "2 10 69 30 6 6 4";
+
+		long validCount = SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.stream(SNRCountry.GREECE, input)
+				.filter(SNRPhoneNumber::isValid)
+				.count();
+
+		assertEquals(validCount, 2);
+	}
+
+	@Test
+	void countInput1() {
+		String input = "0 0 30 69 700 24 1 3 50 2";
+
+		BigInteger count = SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.countInterpretations(input);
+
+		assertEquals(count, BigInteger.valueOf(16));
+	}
+
+	@Test
+	void countInput2() {
+		String input = "30 5";
+
+		assertEquals(SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.countInterpretations(input), BigInteger.valueOf(2));
+		assertEquals(SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.countInterpretations("30 0"), BigInteger.ONE);
+		assertEquals(SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.countInterpretations("10 5"), BigInteger.ONE);
+
+		// Count is the count of distinct interpretations
+		assertEquals(SNREngine.getInstance(SNRLanguage.GREEK)
+				.countInterpretations("0000909"), BigInteger.valueOf(30));
+		assertEquals(SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.countInterpretations("5000 700000 00080"), BigInteger.valueOf(13));
+
+		SNRSession session = SNREngine.getInstance(SNRLanguage.ENGLISH).createSession();
+		session.update("5000 700000 00080");
+		assertEquals(session.countInterpretations(), BigInteger.valueOf(13));
+
+		// Count above int range is not built
+		StringBuilder longInput = new StringBuilder("200 05");
+		StringBuilder repeatedInput = new StringBuilder("5000 700000 00080");
+		for (int i = 0; i < 32; i++) {
+			longInput.append(" 25");
+			repeatedInput.append(" 25");
+		}
+
+		assertEquals(SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.countInterpretations(longInput.toString()), BigInteger.valueOf(8589934592L));
+		assertEquals(SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.countInterpretations(repeatedInput.toString()), BigInteger.valueOf(13L << 32));
+	}
+
+	@Test
+	void countInput3() {
+		StringBuilder input = new StringBuilder("25");
+		for (int i = 1; i < 100; i++) {
+			input.append(" 25");
+		}
+
+		BigInteger count = SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.countInterpretations(input.toString());
+
+		assertEquals(count, BigInteger.valueOf(2).pow(100));
+	}
+
+	@Test
+	void groupCacheInput1() {
+		String input = "2 10 69 30 6 6 4";
+
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.RUSSIAN);
+		engine.clearGroupCache();
+
+		String[] output1 = engine.recognize(input);
+		long missCount = engine.getGroupCacheMissCount();
+		long hitCount = engine.getGroupCacheHitCount();
+		String[] output2 = engine.recognize(input);
+
+		assertEquals(new HashSet<>(Arrays.asList(output1)), new HashSet<>(Arrays.asList(output2)));
+		assertEquals(engine.getGroupCacheMissCount(), missCount);
+		assertTrue(engine.getGroupCacheHitCount() > hitCount);
+	}
+
+	@Test
+	void resultCacheInput1() {
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.RUSSIAN);
+		engine.enableResultCache(1 << 16, 1, TimeUnit.MINUTES);
+
+		try {
+			assertTrue(engine.isResultCacheEnabled());
+
+			String[] output1 = engine.recognize("2 10 69 30 6 6 4");
+			output1[0] = null;
+			String[] output2 = engine.recognize(" 2\t10 69 30 6 6 4 ");
+
+			// Whitespace is normalized and cached array is not exposed
+			assertEquals(engine.getResultCacheHitCount(), 1);
+			assertEquals(engine.getResultCacheMissCount(), 1);
+			assertNotNull(output2[0]);
+			assertEquals(new HashSet<>(Arrays.asList(output2)),
+					new HashSet<>(Arrays.asList(engine.recognize("2 10 69 30 6 6 4"))));
+
+			// Country is part of key
+			assertEquals(engine.recognize(SNRCountry.GREECE, "2 10 69 30 6 6 4").length, 4);
+			assertEquals(engine.recognize(SNRCountry.GREECE, "2 10 69 30 6 6 4").length, 4);
+			assertEquals(engine.getResultCacheHitCount(), 3);
+			assertEquals(engine.getResultCacheHitRatio(), 0.6);
+
+			// Invalid input is not cached
+			assertThrows(IllegalArgumentException.class, () -> engine.recognize("2  10"));
+
+			// Invalid input is not looked up, so it never matches phone numbers key
+			assertThrows(IllegalArgumentException.class, () -> engine.recognize("GREECE:2 10 69 30 6 6 4"));
+			assertThrows(IllegalArgumentException.class, () -> engine.recognize(SNRCountry.GREECE, "GREECE:2 10"));
+			assertEquals(engine.getResultCacheHitCount(), 3);
+			assertEquals(engine.getResultCacheMissCount(), 2);
+		} finally {
+			engine.disableResultCache();
+		}
+
+		assertFalse(engine.isResultCacheEnabled());
+		assertEquals(engine.getResultCacheHitCount(), 0);
+	}
+
+	@Test
+	void limitInput1() {
+		String input = "2 10 69 30 6 6 4";
+
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.GREEK);
+		Set<String> all = new HashSet<>(Arrays.asList(engine.recognize(input)));
+
+		SNRResult<String> output = engine.recognize(input, 3);
+		assertEquals(output.size(), 3);
+		assertTrue(output.isTruncated());
+		assertTrue(all.containsAll(Arrays.asList(output.getItems())));
+
+		output = engine.recognize(input, all.size());
+		assertEquals(new HashSet<>(Arrays.asList(output.getItems())), all);
+		assertFalse(output.isTruncated());
+
+		assertThrows(IllegalArgumentException.class, () -> {
+			engine.recognize(input, 0);
+		});
+	}
+
+	@Test
+	void limitInput2() {
+		String input = "2 10 69 30 6 6 4";
+
+		SNRResult<SNRPhoneNumber> output = SNREngine.getInstance(SNRLanguage.GREEK)
+				.recognize(SNRCountry.GREECE, input, 100);
+
+		assertFalse(output.isTruncated());
+		assertEquals(output.size(),
+				SNREngine.getInstance(SNRLanguage.GREEK).recognize(SNRCountry.GREECE, input).length);
+		assertNotNull(findPhoneInArray(output.getItems(), "2106930664"));
+	}
+
+	@Test
+	void sessionInput1() {
+		String input = "2 10 69 30 6 6 4";
+
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.ENGLISH);
+		SNRSession session = engine.createSession();
+
+		// Type input char by char
+		for (int i = 1; i <= input.length(); i++) {
+			session.update(input.substring(0, i));
+		}
+
+		assertEquals(session.getGroupCount(), 7);
+		assertEquals(new HashSet<>(Arrays.asList(session.recognize())),
+				new HashSet<>(Arrays.asList(engine.recognize(input))));
+		assertEquals(session.countInterpretations(), engine.countInterpretations(input));
+
+		// Appended group is processed alone when previous group is not modulus
+		session.update(input + " 5");
+		assertEquals(session.getGroupCount(), 8);
+		assertEquals(session.getProcessedGroupCount(), 1);
+
+		// Changed modulus look-ahead
+		session.update("2 10 69 30");
+		session.update("2 10 69 30 6");
+		assertEquals(session.getProcessedGroupCount(), 2);
+		assertEquals(new HashSet<>(Arrays.asList(session.recognize())),
+				new HashSet<>(Arrays.asList(engine.recognize("2 10 69 30 6"))));
+	}
+
+	@Test
+	void sessionInput2() {
+		SNRSession session = SNREngine.getInstance(SNRLanguage.ENGLISH).createSession();
+
+		// Empty input
+		assertEquals(session.countInterpretations(), BigInteger.ZERO);
+
+		// Invalid input does not change session
+		session.update("2 10");
+		assertThrows(IllegalArgumentException.class, () -> {
+			session.update("2 10  6");
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			session.update("2 10 a");
+		});
+		assertEquals(session.getInput(), "2 10");
+		assertEquals(session.getGroupCount(), 2);
+		assertNotNull(session.recognize(SNRCountry.GREECE));
+	}
+
+	@Test
+	void numbersInput1() {
+		String input = "0 0 30 69 700 24 1 3 50 2";
+
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.ENGLISH);
+		SNRNumberArray output = engine.recognizeNumbers(input);
+
+		assertNotNull(output);
+		assertEquals(new HashSet<>(Arrays.asList(output.toArray())),
+				new HashSet<>(Arrays.asList(engine.recognize(input))));
+
+		for (int i = 0; i < output.size(); i++) {
+			assertEquals(output.getLeadingZeroCount(i), 2);
+			assertEquals(output.isValidPhoneNumber(i, SNRCountry.GREECE),
+					SNRCountry.GREECE.isValidPhoneNumber(output.get(i)));
+		}
+	}
+
+	@Test
+	void numbersInput2() {
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.ENGLISH);
+
+		assertThrows(IllegalArgumentException.class, () -> {
+			engine.recognizeNumbers("2 10 69 30 6 6 4 2 10 69 30 6 6 4");
+		});
+	}
+
+	@Test
+	void metricsInput1() {
+		String input = "2 10 69 30 6 6 4";
+
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.GREEK);
+		SNRMetrics metrics = engine.getMetrics();
+		assertNotNull(metrics);
+		metrics.reset();
+
+		SNRPhoneNumber[] output = engine.recognize(SNRCountry.GREECE, input);
+		assertThrows(IllegalArgumentException.class, () -> {
+			engine.recognize("invalid");
+		});
+
+		assertEquals(metrics.getRequestCount(), 2);
+		assertEquals(metrics.getErrorCount(), 1);
+		assertEquals(metrics.getGroupCount(), 7);
+		assertEquals(metrics.getCombinationCount(), output.length);
+		assertEquals(metrics.getValidPhoneNumberCount(),
+				Arrays.stream(output).filter(SNRPhoneNumber::isValid).count());
+		assertTrue(metrics.getLatticeNodeCount() >= 7);
+		assertTrue(metrics.getEnumerationLatencyP99() >= metrics.getEnumerationLatencyP50());
+
+		// Ranked requests and requests served by result cache are recorded
+		engine.iterateRanked(input);
+		assertEquals(metrics.getRequestCount(), 3);
+		assertEquals(metrics.getGroupCount(), 14);
+
+		engine.enableResultCache(1 << 16, 1, TimeUnit.MINUTES);
+		try {
+			engine.recognize(input);
+			engine.recognize(input);
+			assertEquals(metrics.getRequestCount(), 5);
+			assertEquals(metrics.getResultCacheHitCount(), 1);
+			assertEquals(metrics.getGroupCount(), 21);
+		} finally {
+			engine.disableResultCache();
+		}
+	}
+
+	@Test
+	void shortGroupInput1() {
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.GREEK);
+
+		assertEquals(engine.getShortGroupTableDigits(), 4);
+		assertTrue(engine.getShortGroupTableBuildNanos() > 0);
+		assertTrue(engine.getShortGroupTableBytes() > 0);
+
+		// Short and long complex groups
+		assertEquals(new HashSet<>(Arrays.asList(engine.recognize("1025"))),
+				new HashSet<>(Arrays.asList("1025", "100025", "10205", "1000205")));
+		assertEquals(new HashSet<>(Arrays.asList(engine.recognize("10025"))),
+				new HashSet<>(Arrays.asList("10025", "1000025", "100205", "10000205")));
+	}
+
+	@Test
+	void orderInput1() {
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.ENGLISH);
+
+		// Interpretations are in natural order
+		assertEquals(Arrays.asList(engine.recognize("2 10 69 30 6 6 4")),
+				Arrays.asList("21060930664", "2106093664", "2106930664", "210693664"));
+		assertEquals(Arrays.asList(engine.recognizeParallel("2 10 69 30 6 6 4")),
+				Arrays.asList(engine.recognize("2 10 69 30 6 6 4")));
+		assertEquals(Arrays.asList(engine.recognize("200 05")), Arrays.asList("20005", "205"));
+
+		// Lattice is ordered, layers which may repeat paths are merged
+		SNRSession session = engine.createSession();
+		session.update("11 200070");
+		assertTrue(session.getLattice().isOrdered());
+		session.update("79 4 000030");
+		assertTrue(session.getLattice().isOrdered());
+		session.update("200 05");
+		assertTrue(session.getLattice().isOrdered());
+		assertEquals(session.getLattice().getLayerCount(), 2);
+		session.update("5000 700000 00080");
+		assertTrue(session.getLattice().isOrdered());
+		assertEquals(session.getLattice().getLayerCount(), 2);
+
+		session = SNREngine.getInstance(SNRLanguage.GREEK).createSession();
+		session.update("0000909");
+		assertTrue(session.getLattice().isOrdered());
+	}
+
+	@Test
+	void innerZeroInput1() {
+		// Splits of inner zeros build the same interpretation once
+		assertInnerZeroInput(SNRLanguage.GREEK, "0000909", 30);
+		assertInnerZeroInput(SNRLanguage.ENGLISH, "11 200070", 13);
+		assertInnerZeroInput(SNRLanguage.ENGLISH, "1000680", 30);
+		assertInnerZeroInput(SNRLanguage.RUSSIAN, "3000700", 15);
+		assertInnerZeroInput(SNRLanguage.ENGLISH, "79 4 000030", 26);
+	}
+
+	@Test
+	void distinctInput1() {
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.ENGLISH);
+
+		// Modulus followed by group with leading zeros may give the same path twice
+		String input = "5000 700000 00080";
+		Set<String> expected = new HashSet<>(Arrays.asList(engine.recognize(input)));
+
+		List<String> iterated = new ArrayList<>();
+		engine.iterate(input).forEachRemaining(iterated::add);
+		assertEquals(iterated.size(), 13);
+		assertEquals(new HashSet<>(iterated), expected);
+		assertEquals(engine.stream(input).collect(Collectors.toList()), iterated);
+		assertEquals(engine.parallelStream(input).collect(Collectors.toList()), iterated);
+		assertEquals(engine.stream(SNRCountry.GREECE, input).count(), 13);
+
+		// Output is truncated only if distinct interpretation is left
+		assertFalse(engine.recognize(input, 13).isTruncated());
+		assertEquals(Arrays.asList(engine.recognize(input, 13).getItems()), iterated);
+		assertTrue(engine.recognize(input, 12).isTruncated());
+	}
+
+	void assertInnerZeroInput(SNRLanguage language, String input, int expected) {
+		SNREngine engine = SNREngine.getInstance(language);
+
+		List<String> iterated = new ArrayList<>();
+		engine.iterate(input).forEachRemaining(iterated::add);
+
+		assertEquals(engine.recognize(input).length, expected);
+		assertEquals(engine.countInterpretations(input), BigInteger.valueOf(expected));
+		assertEquals(iterated.size(), expected);
+		assertEquals(new HashSet<>(iterated).size(), expected);
+	}
+
+	@Test
+	void interpretationsInput1() {
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.ENGLISH);
+
+		String[] output = engine.recognize("2 10 69 30 6 6 4");
+		SNRInterpretations interpretations = engine.interpretations("2 10 69 30 6 6 4");
+
+		assertEquals(interpretations.size(), BigInteger.valueOf(output.length));
+		for (int i = 0; i < output.length; i++) {
+			assertEquals(interpretations.get(i), output[i]);
+		}
+		assertEquals(Arrays.asList(interpretations.getPage(1, 2)), Arrays.asList(output[1], output[2]));
+		assertEquals(interpretations.getPage(3, 10).length, 1);
+		assertEquals(interpretations.getPage(4, 10).length, 0);
+
+		// Inner zero groups are decoded by index
+		SNREngine greek = SNREngine.getInstance(SNRLanguage.GREEK);
+		String[] innerZeroOutput = greek.recognize("0000909 25");
+		SNRInterpretations innerZero = greek.interpretations("0000909 25");
+		assertEquals(innerZero.size(), BigInteger.valueOf(innerZeroOutput.length));
+		assertEquals(Arrays.asList(innerZero.getPage(0, innerZeroOutput.length)), Arrays.asList(innerZeroOutput));
+		assertEquals(innerZero.get(innerZeroOutput.length - 1), innerZeroOutput[innerZeroOutput.length - 1]);
+
+		// Modulus followed by group with leading zeros is decoded by index
+		String[] unorderedOutput = engine.recognize("5000 700000 00080");
+		SNRInterpretations unordered = engine.interpretations("5000 700000 00080");
+		assertEquals(unordered.size(), BigInteger.valueOf(13));
+		assertEquals(Arrays.asList(unordered.getPage(0, 13)), Arrays.asList(unorderedOutput));
+		assertThrows(IllegalArgumentException.class, () -> {
+			interpretations.get(output.length);
+		});
+
+		assertEquals(Arrays.asList(engine.interpretations("200 05").getPage(0, 10)),
+				Arrays.asList(engine.recognize("200 05")));
+
+		// Merged layers are decoded without building interpretations
+		StringBuilder longInput = new StringBuilder("5000 700000 00080");
+		for (int i = 0; i < 32; i++) {
+			longInput.append(" 25");
+		}
+
+		SNRInterpretations merged = engine.interpretations(longInput.toString());
+		assertEquals(merged.size(), BigInteger.valueOf(13L << 32));
+		assertEquals(merged.get(0), unorderedOutput[0] + String.join("", Collections.nCopies(32, "205")));
+		assertEquals(merged.get((13L << 32) - 1), unorderedOutput[12] + String.join("", Collections.nCopies(32, "25")));
+	}
+
+	@Test
+	void interpretationsInput2() {
+		StringBuilder input = new StringBuilder("25");
+		for (int i = 1; i < 80; i++) {
+			input.append(" 25");
+		}
+
+		// Count of interpretations does not fit to long
+		SNRInterpretations interpretations = SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.interpretations(input.toString());
+
+		assertEquals(interpretations.size(), BigInteger.ONE.shiftLeft(80));
+		assertEquals(interpretations.get(0), input.toString().replace("25", "205").replace(" ", ""));
+		assertEquals(interpretations.get(interpretations.size().subtract(BigInteger.ONE)),
+				input.toString().replace(" ", ""));
+		assertEquals(interpretations.getPage(Long.MAX_VALUE, 3).length, 3);
+	}
+
+	@Test
+	void rankedInput1() {
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.GREEK);
+
+		// Interpretations closer to input go first
+		SNRResult<String> output = engine.recognizeRanked("25 30 6", 2);
+		assertEquals(output.getItems()[0], "25306");
+		assertEquals(output.size(), 2);
+		assertTrue(output.isTruncated());
+
+		List<String> ranked = new ArrayList<>();
+		engine.iterateRanked("25 30 6").forEachRemaining(ranked::add);
+		assertEquals(ranked.get(0), "25306");
+		assertEquals(ranked.get(ranked.size() - 1), "20536");
+		assertEquals(new HashSet<>(ranked), new HashSet<>(Arrays.asList(engine.recognize("25 30 6"))));
+
+		// Removed digit is more likely than kept digit (e.g. 30 6 is 36)
+		engine.setScoreModel(new SNRScoreModel(1, -1));
+		try {
+			assertEquals(engine.recognizeRanked("25 30 6", 1).getItems()[0], "2536");
+		} finally {
+			engine.setScoreModel(SNRScoreModel.DEFAULT);
+		}
+	}
+
+	static class RecordingSubscriber<T> implements SNRFlow.Subscriber<T> {
+
+		final List<T> items = new ArrayList<>();
+		SNRFlow.Subscription subscription;
+		Throwable error;
+		boolean complete;
+
+		@Override
+		public void onSubscribe(SNRFlow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(T item) {
+			items.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			complete = true;
+		}
+
+	}
+
+	@Test
+	void publisherInput1() {
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.ENGLISH);
+		List<String> expected = Arrays.asList(engine.recognize("2 10 69 30 6 6 4"));
+
+		// Items are emitted only on demand
+		RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+		engine.publish("2 10 69 30 6 6 4", Runnable::run).subscribe(subscriber);
+		assertTrue(subscriber.items.isEmpty());
+		subscriber.subscription.request(2);
+		assertEquals(subscriber.items, expected.subList(0, 2));
+		assertFalse(subscriber.complete);
+		subscriber.subscription.request(Long.MAX_VALUE);
+		subscriber.subscription.request(Long.MAX_VALUE);
+		assertEquals(subscriber.items, expected);
+		assertTrue(subscriber.complete);
+
+		// Cancelled subscription emits nothing more
+		RecordingSubscriber<SNRPhoneNumber> phones = new RecordingSubscriber<>();
+		engine.publish(SNRCountry.GREECE, "2 10 69 30 6 6 4", Runnable::run).subscribe(phones);
+		phones.subscription.request(1);
+		phones.subscription.cancel();
+		phones.subscription.request(1);
+		assertEquals(phones.items.size(), 1);
+		assertFalse(phones.complete);
+
+		// Invalid input and invalid request are reported as errors
+		RecordingSubscriber<String> invalid = new RecordingSubscriber<>();
+		engine.publish("invalid", Runnable::run).subscribe(invalid);
+		invalid.subscription.request(1);
+		assertTrue(invalid.error instanceof IllegalArgumentException);
+		RecordingSubscriber<String> negative = new RecordingSubscriber<>();
+		engine.publish("2 10", Runnable::run).subscribe(negative);
+		negative.subscription.request(0);
+		assertTrue(negative.error instanceof IllegalArgumentException);
+		assertTrue(negative.items.isEmpty());
+	}
+
+	@Test
+	void publisherInput2() throws InterruptedException {
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.GREEK);
+		StringBuilder input = new StringBuilder();
+		for (int i = 0; i < 12; i++) {
+			input.append("25 ");
+		}
+
+		// Subscriber requests next item from onNext on another thread
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		CountDownLatch latch = new CountDownLatch(1);
+		RecordingSubscriber<String> subscriber = new RecordingSubscriber<String>() {
+
+			@Override
+			public void onSubscribe(SNRFlow.Subscription subscription) {
+				super.onSubscribe(subscription);
+				subscription.request(1);
+			}
+
+			@Override
+			public void onNext(String item) {
+				items.add(item);
+				subscription.request(1);
+			}
+
+			@Override
+			public void onComplete() {
+				latch.countDown();
+			}
+
+		};
+		try {
+			engine.publish(input.toString(), executor).subscribe(subscriber);
+
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(subscriber.items.size(), 1 << 12);
+		assertEquals(subscriber.items, engine.stream(input.toString()).collect(Collectors.toList()));
+	}
+
+	@Test
+	void longGroupInput1() {
+		SNREngine engine = SNREngine.getInstance(SNRLanguage.ENGLISH);
+
+		// Groups longer than int are compared with limit digit by digit
+		assertEquals(engine.recognize("99999999999").length, 1024);
+		assertEquals(engine.countInterpretations("99999999999 99999999999"), BigInteger.valueOf(1 << 20));
+		assertEquals(Arrays.asList(engine.recognize("0000000000019")), Arrays.asList("0000000000019"));
+		assertEquals(new HashSet<>(Arrays.asList(engine.recognize("100000000000 5"))),
+				new HashSet<>(Arrays.asList("1000000000005", "100000000005")));
+	}
+
+	@Test
+	void batchInput1() {
+		List<String> inputs = Arrays.asList("2 10 6 9 30 6 6 4", "invalid", "2 10 69 30 6 6 4", null);
+
+		List<SNRBatchResult> output = SNREngine.getInstance(SNRLanguage.ENGLISH)
+				.recognizeAll(inputs, SNRCountry.GREECE, 2);
+
+		assertNotNull(output);
+		assertEquals(output.size(), 4);
+		assertTrue(output.get(0).isSuccess());
+		assertEquals(output.get(0).getInput(), inputs.get(0));
+		assertEquals(output.get(0).getPhoneNumbers().length, 2);
+		assertFalse(output.get(1).isSuccess());
+		assertTrue(output.get(1).getError() instanceof IllegalArgumentException);
+		assertTrue(output.get(2).isSuccess());
+		assertEquals(output.get(2).getPhoneNumbers().length, 4);
+		assertFalse(output.get(3).isSuccess());
+	}
+
+	@Test
+	void batchInput2() {
+		List<String> inputs = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			inputs.add(String.format("%d 10 69 30 6 6 4", i % 10));
+		}
+
+		List<SNRBatchResult> output = SNREngine.getInstance(SNRLanguage.GREEK)
+				.recognizeAll(inputs, SNRCountry.GREECE);
+
+		assertEquals(output.size(), inputs.size());
+		for (int i = 0; i < inputs.size(); i++) {
+			assertEquals(output.get(i).getInput(), inputs.get(i));
+			assertEquals(new HashSet<>(Arrays.asList(output.get(i).getPhoneNumbers())),
+					new HashSet<>(Arrays.asList(SNREngine.getInstance(SNRLanguage.GREEK)
+							.recognize(SNRCountry.GREECE, inputs.get(i)))));
+		}
+	}
+
 	SNRPhoneNumber findPhoneInArray(SNRPhoneNumber[] array, String interpretation) {
 		return Arrays.stream(array)
 				.filter(phone -> phone.getInterpretation().equals(interpretation))
@@ -0,0 +1,49 @@
+package com.github.kindratsm.snr.engines;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SNR Group Table unit test
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRGroupTableTest {
+
+	SNRGroupTable table;
+
+	@BeforeEach
+	void init() {
+		table = new SNRGroupTable(2);
+	}
+
+	@Test
+	void test() {
+		// Invalid digits
+		assertThrows(IllegalArgumentException.class, () -> {
+			new SNRGroupTable(SNRGroupTable.MAX_DIGITS + 1);
+		});
+
+		// Table is empty until it is built
+		assertNull(table.get("5"));
+
+		table.build(input -> new String[] { input });
+		assertEquals(table.getDigits(), 2);
+		assertTrue(table.getBuildNanos() > 0);
+		assertTrue(table.getMemoryBytes() > 0);
+
+		// get
+		assertArrayEquals(table.get("5"), new String[] { "5" });
+		assertArrayEquals(table.get("05"), new String[] { "05" });
+		assertArrayEquals(table.get("99"), new String[] { "99" });
+		assertNull(table.get("100"));
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.github.kindratsm.snr.enums;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.kindratsm.snr.helpers.LangHelper;
+
+/**
+ * SNR Country unit test
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRCountryTest {
+
+	@Test
+	void test() {
+		// getPhonePattern
+		assertEquals(SNRCountry.USA.getPhonePattern().pattern(), "^[\\d]{10}$|^001[\\d]{10}$");
+		assertEquals(SNRCountry.GREECE.getPhonePattern().pattern(), "^[\\d]{10}$|^0030[\\d]{10}$");
+		assertEquals(SNRCountry.RUSSIA.getPhonePattern().pattern(), "^[\\d]{10}$|^007[\\d]{10}$|^8[\\d]{10}$");
+
+		// isPhoneLength
+		assertTrue(SNRCountry.GREECE.isPhoneLength(14));
+		assertFalse(SNRCountry.GREECE.isPhoneLength(13));
+		assertTrue(SNRCountry.RUSSIA.isPhoneLength(11));
+
+		// getMaxPhoneLength
+		assertEquals(SNRCountry.USA.getMaxPhoneLength(), 13);
+		assertEquals(SNRCountry.GREECE.getMaxPhoneLength(), 14);
+		assertEquals(SNRCountry.RUSSIA.getMaxPhoneLength(), 13);
+
+		// isValidPhoneNumber
+		assertTrue(SNRCountry.GREECE.isValidPhoneNumber("2106930664"));
+		assertTrue(SNRCountry.GREECE.isValidPhoneNumber("00302106930664"));
+		assertFalse(SNRCountry.GREECE.isValidPhoneNumber("210693664"));
+		assertFalse(SNRCountry.GREECE.isValidPhoneNumber(null));
+		assertTrue(SNRCountry.RUSSIA.isValidPhoneNumber("82106930664"));
+		assertFalse(SNRCountry.USA.isValidPhoneNumber("82106930664"));
+		assertFalse(SNRCountry.USA.isValidPhoneNumber("21069306a4"));
+		assertTrue(SNRCountry.GREECE.isValidPhoneNumber(302106930664L, 14));
+		assertFalse(SNRCountry.GREECE.isValidPhoneNumber(302106930664L, 12));
+		assertFalse(SNRCountry.USA.isValidPhoneNumber(302106930664L, 14));
+	}
+
+	@Test
+	void patternEquivalence() {
+		final Random random = new Random(0);
+		final String chars = "0000000012345678a";
+
+		for (int i = 0; i < 100000; i++) {
+			final StringBuilder number = new StringBuilder();
+			final int length = 9 + random.nextInt(6);
+			for (int j = 0; j < length; j++) {
+				number.append(chars.charAt(random.nextInt(chars.length())));
+			}
+
+			for (SNRCountry country : SNRCountry.values()) {
+				assertEquals(country.isValidPhoneNumber(number),
+						LangHelper.isMatch(country.getPhonePattern(), number.toString()));
+
+				// Encoded phone number
+				if (number.indexOf("a") < 0) {
+					assertEquals(country.isValidPhoneNumber(Long.parseUnsignedLong(number.toString()), length),
+							country.isValidPhoneNumber(number));
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.github.kindratsm.snr.enums;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * SNR Language unit test
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRLanguageTest {
+
+	@Test
+	void test() {
+		// getLimit
+		assertEquals(SNRLanguage.ENGLISH.getLimit(), 19);
+		assertEquals(SNRLanguage.GREEK.getLimit(), 12);
+
+		// isAboveLimit
+		assertTrue(SNRLanguage.ENGLISH.isAboveLimit("305".toCharArray(), 0, 3));
+		assertFalse(SNRLanguage.ENGLISH.isAboveLimit("0019".toCharArray(), 0, 4));
+		assertTrue(SNRLanguage.ENGLISH.isAboveLimit("0020".toCharArray(), 0, 4));
+		assertFalse(SNRLanguage.ENGLISH.isAboveLimit("3050".toCharArray(), 1, 3));
+		assertFalse(SNRLanguage.ENGLISH.isAboveLimit("000".toCharArray(), 0, 3));
+		assertTrue(SNRLanguage.GREEK.isAboveLimit("13".toCharArray(), 0, 2));
+		assertFalse(SNRLanguage.GREEK.isAboveLimit("12".toCharArray(), 0, 2));
+		assertTrue(SNRLanguage.ENGLISH.isAboveLimit("99999999999999999999999".toCharArray(), 0, 23));
+		assertFalse(SNRLanguage.ENGLISH.isAboveLimit("00000000000000000000019".toCharArray(), 0, 23));
+	}
+
+}
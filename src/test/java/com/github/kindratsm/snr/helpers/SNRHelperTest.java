@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.github.kindratsm.snr.enums.SNRGroupType;
 import com.github.kindratsm.snr.models.SNRGroup;
 
 /**
@@ -54,6 +55,11 @@ public class SNRHelperTest {
 			SNRHelper.validateInput(invalidInput);
 		});
 
+		// isValidInput
+		assertTrue(SNRHelper.isValidInput(validInput));
+		assertFalse(SNRHelper.isValidInput(invalidInput));
+		assertFalse(SNRHelper.isValidInput("USA:2 10"));
+
 		// splitInputToGroups
 		SNRGroup[] array = SNRHelper.splitInputToGroups(validInput);
 
@@ -68,6 +74,34 @@ public class SNRHelperTest {
 		assertEquals(array[6], new SNRGroup("6"));
 		assertEquals(array[7], new SNRGroup("4"));
 
+		// splitInputToGroups classification
+		SNRGroup[] typedArray = SNRHelper.splitInputToGroups(" 0 00 5 350 05 305 1010 ");
+
+		assertEquals(typedArray.length, 7);
+		assertEquals(typedArray[0].getType(), SNRGroupType.ZEROS);
+		assertEquals(typedArray[1].getType(), SNRGroupType.ZEROS);
+		assertEquals(typedArray[2].getType(), SNRGroupType.SINGLE_NUMBER);
+		assertEquals(typedArray[3].getType(), SNRGroupType.MODULUS);
+		assertEquals(typedArray[4].getType(), SNRGroupType.LEADING_ZEROS);
+		assertEquals(typedArray[5].getType(), SNRGroupType.COMPLEX);
+		assertEquals(typedArray[6].getType(), SNRGroupType.COMPLEX);
+
+		// splitInputToGroups invalid input
+		assertThrows(IllegalArgumentException.class, () -> {
+			SNRHelper.splitInputToGroups(invalidInput);
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			SNRHelper.splitInputToGroups("2  10");
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			SNRHelper.splitInputToGroups("   ");
+		});
+
+		// classifyGroup
+		assertEquals(SNRHelper.classifyGroup(modulusGroupInput), SNRGroupType.MODULUS);
+		assertEquals(SNRHelper.classifyGroup(validGroupInput), SNRGroupType.COMPLEX);
+		assertEquals(SNRHelper.classifyGroup(suffix), SNRGroupType.LEADING_ZEROS);
+
 		// validateGroup
 		assertThrows(IllegalArgumentException.class, () -> {
 			SNRHelper.validateGroup(invalidGroupInput);
@@ -89,6 +123,10 @@ public class SNRHelperTest {
 
 		assertEquals(output, "30500");
 
+		// normalizeInput
+		assertEquals(SNRHelper.normalizeInput(" 2\t10\n69 "), "2 10 69");
+		assertEquals(SNRHelper.normalizeInput(validInput), validInput);
+
 		// hasLeadingZeros
 		assertTrue(SNRHelper.hasLeadingZeros(suffix));
 		assertFalse(SNRHelper.hasLeadingZeros(validGroupInput));
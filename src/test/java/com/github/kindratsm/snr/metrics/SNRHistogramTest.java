@@ -0,0 +1,62 @@
+package com.github.kindratsm.snr.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SNR Histogram unit test
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRHistogramTest {
+
+	SNRHistogram histogram;
+
+	@BeforeEach
+	void init() {
+		histogram = new SNRHistogram();
+	}
+
+	@Test
+	void test() {
+		// Empty histogram
+		assertEquals(histogram.getCount(), 0);
+		assertEquals(histogram.getPercentile(99), 0);
+
+		// Invalid percentile
+		assertThrows(IllegalArgumentException.class, () -> {
+			histogram.getPercentile(101);
+		});
+
+		// Small values are exact
+		for (int i = 1; i <= 7; i++) {
+			histogram.record(i);
+		}
+		assertEquals(histogram.getCount(), 7);
+		assertEquals(histogram.getPercentile(50), 4);
+		assertEquals(histogram.getPercentile(100), 7);
+
+		// Large values are reported with bounded relative error
+		histogram.reset();
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000L);
+		}
+		long p50 = histogram.getPercentile(50);
+		long p99 = histogram.getPercentile(99);
+		assertTrue(p50 >= 500_000 && p50 <= 500_000 * 9 / 8);
+		assertTrue(p99 >= 990_000 && p99 <= 990_000 * 9 / 8);
+		assertTrue(histogram.getPercentile(99.9) >= p99);
+
+		// Huge and negative values
+		histogram.record(Long.MAX_VALUE);
+		histogram.record(-1);
+		assertEquals(histogram.getCount(), 1002);
+		assertEquals(histogram.getPercentile(0), 0);
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.github.kindratsm.snr.models;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SNR Lattice unit test
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRLatticeTest {
+
+	SNRLattice lattice;
+	SNRLattice emptyLattice;
+
+	@BeforeEach
+	void init() {
+		lattice = new SNRLattice(new String[][] { { "2" }, { "10", "1" }, { "69", "609" }, { "30", "3" } });
+		emptyLattice = new SNRLattice(new String[][] {});
+	}
+
+	@Test
+	void test() {
+		// Check data
+		assertNotNull(lattice);
+		assertNotNull(emptyLattice);
+
+		// Invalid layers
+		assertThrows(IllegalArgumentException.class, () -> {
+			new SNRLattice(new String[][] { { "2" }, null });
+		});
+
+		// getLayerCount
+		assertEquals(lattice.getLayerCount(), 4);
+		assertEquals(emptyLattice.getLayerCount(), 0);
+
+		// getItemCount
+		assertEquals(lattice.getItemCount(0), 1);
+		assertEquals(lattice.getItemCount(2), 2);
+		assertThrows(IllegalArgumentException.class, () -> {
+			lattice.getItemCount(4);
+		});
+
+		// getItem
+		assertEquals(lattice.getItem(2, 1), "609");
+
+		// getNodeCount
+		assertEquals(lattice.getNodeCount(), 7);
+
+		// getPathCount
+		assertEquals(lattice.getPathCount(), BigInteger.valueOf(8));
+
+		// isEmpty
+		assertFalse(lattice.isEmpty());
+		assertTrue(emptyLattice.isEmpty());
+
+		// ITEM_ORDER
+		assertTrue(SNRLattice.ITEM_ORDER.compare("30", "3") < 0);
+		assertTrue(SNRLattice.ITEM_ORDER.compare("3", "5") < 0);
+		assertTrue(SNRLattice.ITEM_ORDER.compare("609", "69") < 0);
+
+		// sortDistinct
+		assertArrayEquals(SNRLattice.sortDistinct(new String[] { "5", "3", "30", "3" }),
+				new String[] { "30", "3", "5" });
+		assertArrayEquals(SNRLattice.sortDistinct(new String[0]), new String[0]);
+
+		// isOrdered
+		assertTrue(new SNRLattice(new String[][] { { "2" }, { "10", "1" }, { "609", "69" } }).isOrdered());
+		assertTrue(new SNRLattice(new String[][] { { "2" }, { "1", "10" } }).isOrdered());
+		assertFalse(new SNRLattice(new String[][] { { "2" }, { "10", "1" } }).isOrdered());
+		assertTrue(new SNRLattice(new String[][] { { "200", "2" }, { "05" } }).isOrdered());
+		assertFalse(new SNRLattice(new String[][] { { "200", "2" }, { "0005", "05" } }).isOrdered());
+		assertFalse(new SNRLattice(new String[][] { { "20", "2" }, { "0", "00" } }).isOrdered());
+		assertTrue(SNRLattice.isOrdered(new String[] { "30", "3" }, new String[] { "6" }));
+		assertFalse(SNRLattice.isOrdered(new String[] { "30", "3" }, null));
+		assertFalse(lattice.isOrdered());
+		assertTrue(emptyLattice.isOrdered());
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.github.kindratsm.snr.models;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.kindratsm.snr.enums.SNRCountry;
+
+/**
+ * SNR Number Array unit test
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRNumberArrayTest {
+
+	SNRNumberArray numbers;
+
+	@BeforeEach
+	void init() {
+		numbers = new SNRNumberArray(new long[] { 302106930664L, 0, Long.parseUnsignedLong("9999999999999999999"), 0 },
+				new byte[] { 14, 3, 19, 0 }, 3);
+	}
+
+	@Test
+	void test() {
+		// Check data
+		assertEquals(numbers.size(), 3);
+		assertFalse(numbers.isEmpty());
+		assertEquals(numbers.getValue(0), 302106930664L);
+		assertEquals(numbers.getLength(0), 14);
+		assertEquals(numbers.getLeadingZeroCount(0), 2);
+		assertEquals(numbers.getLeadingZeroCount(1), 2);
+		assertEquals(numbers.getLeadingZeroCount(2), 0);
+
+		// Invalid size and index
+		assertThrows(IllegalArgumentException.class, () -> {
+			new SNRNumberArray(new long[1], new byte[1], 2);
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			numbers.get(3);
+		});
+
+		// get and toArray
+		assertEquals(numbers.get(0), "00302106930664");
+		assertEquals(numbers.get(1), "000");
+		assertArrayEquals(numbers.toArray(), new String[] { "00302106930664", "000", "9999999999999999999" });
+
+		// isValidPhoneNumber
+		assertTrue(numbers.isValidPhoneNumber(0, SNRCountry.GREECE));
+		assertFalse(numbers.isValidPhoneNumber(0, SNRCountry.USA));
+		assertFalse(numbers.isValidPhoneNumber(1, SNRCountry.GREECE));
+	}
+
+}
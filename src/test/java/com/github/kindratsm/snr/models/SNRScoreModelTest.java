@@ -0,0 +1,54 @@
+package com.github.kindratsm.snr.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SNR Score Model unit test
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRScoreModelTest {
+
+	SNRScoreModel model;
+
+	@BeforeEach
+	void init() {
+		model = new SNRScoreModel(1, 0.5);
+	}
+
+	@Test
+	void test() {
+		// Invalid penalties
+		assertThrows(IllegalArgumentException.class, () -> {
+			new SNRScoreModel(Double.POSITIVE_INFINITY, 0);
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			new SNRScoreModel(0, Double.NaN);
+		});
+
+		// score
+		assertEquals(model.score("25", "25"), 0.0);
+		assertEquals(model.score("25", "205"), -1.0);
+		assertEquals(model.score("1025", "1000025"), -3.0);
+		assertEquals(model.score("30", "3"), -0.5);
+
+		// learn
+		SNRScoreModel learned = SNRScoreModel.learn(97, 1, 0);
+		assertEquals(learned.getInsertionPenalty(), Math.log(49), 1e-9);
+		assertEquals(learned.getRemovalPenalty(), Math.log(98), 1e-9);
+		assertTrue(learned.score("25", "205") > learned.score("30", "3"));
+
+		// Removed digit is more likely than kept digit
+		assertTrue(SNRScoreModel.learn(10, 0, 100).score("30", "3") > 0);
+		assertThrows(IllegalArgumentException.class, () -> {
+			SNRScoreModel.learn(-1, 0, 0);
+		});
+	}
+
+}
@@ -0,0 +1,181 @@
+package com.github.kindratsm.snr.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.kindratsm.snr.engines.SNREngine;
+import com.github.kindratsm.snr.enums.SNRLanguage;
+
+/**
+ * SNR HTTP Service unit test
+ * 
+ * @author Stanislav Kindrat
+ *
+ */
+public class SNRHttpServiceTest {
+
+	SNRHttpService service;
+
+	/**
+	 * HTTP response status, headers and body lines
+	 */
+	static class Response {
+
+		int status;
+		HttpURLConnection connection;
+		List<String> lines;
+
+	}
+
+	@BeforeEach
+	void init() throws IOException {
+		service = new SNRHttpService(new InetSocketAddress("localhost", 0), Executors.newFixedThreadPool(2), 3);
+		service.start();
+	}
+
+	@AfterEach
+	void destroy() {
+		service.stop(0);
+	}
+
+	Response get(SNRHttpService service, String path) throws IOException {
+		URL url = new URL(String.format("http://localhost:%d%s", service.getAddress().getPort(), path));
+
+		Response response = new Response();
+		response.connection = (HttpURLConnection) url.openConnection();
+		response.status = response.connection.getResponseCode();
+
+		try (InputStream input = response.status < 400 ? response.connection.getInputStream()
+				: response.connection.getErrorStream()) {
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = input.read(buffer)) != -1) {
+				body.write(buffer, 0, read);
+			}
+
+			String text = new String(body.toByteArray(), StandardCharsets.UTF_8);
+			response.lines = text.isEmpty() ? Collections.emptyList() : Arrays.asList(text.split("\n"));
+		}
+
+		return response;
+	}
+
+	@Test
+	void recognizeInput1() throws IOException {
+		String[] output = SNREngine.getInstance(SNRLanguage.ENGLISH).recognize("2 10 69 30 6 6 4");
+
+		// Every interpretation is streamed
+		Response response = get(service, "/recognize?language=ENGLISH&input=2+10+69+30+6+6+4");
+		assertEquals(response.status, 200);
+		assertEquals(response.lines, Arrays.asList(output));
+
+		// Validity is added if country is provided
+		response = get(service, "/recognize?language=ENGLISH&country=GREECE&input=2+10+69+30+6+6+4");
+		assertEquals(response.lines.get(0), output[0] + "\tINVALID");
+
+		// Limit
+		response = get(service, "/recognize?language=ENGLISH&input=2+10+69+30+6+6+4&limit=2");
+		assertEquals(response.lines, Arrays.asList(output[0], output[1]));
+		assertEquals(response.connection.getHeaderField("X-Truncated"), "true");
+
+		// Page by offset
+		response = get(service, "/recognize?language=ENGLISH&input=2+10+69+30+6+6+4&offset=2&limit=2");
+		assertEquals(response.lines, Arrays.asList(output[2], output[3]));
+		assertEquals(response.connection.getHeaderField("X-Total-Count"), "4");
+		assertEquals(response.connection.getHeaderField("X-Truncated"), "false");
+
+		// Ranked
+		response = get(service, "/recognize?language=GREEK&input=25+30+6&limit=1&ranked=true");
+		assertEquals(response.lines, Arrays.asList("25306"));
+
+		// Limit is capped by max limit
+		response = get(service, "/recognize?language=ENGLISH&input=2+10+69+30+6+6+4&limit=2147483647");
+		assertEquals(response.status, 200);
+		assertEquals(response.lines.size(), 3);
+		assertEquals(response.connection.getHeaderField("X-Truncated"), "true");
+
+		// Invalid parameters
+		assertEquals(get(service, "/recognize?language=ENGLISH&input=2+10&limit=-1").status, 400);
+		assertEquals(get(service, "/recognize?language=ENGLISH&input=2+10&limit=abc").status, 400);
+		assertEquals(get(service, "/recognize?language=ENGLISH&input=2+10&limit=99999999999").status, 400);
+		assertEquals(get(service, "/recognize?language=ENGLISH&input=2+10&offset=-1&limit=1").status, 400);
+		assertEquals(get(service, "/recognize?language=ENGLISH&input=2+10&offset=5&limit=1").status, 400);
+		assertEquals(get(service, "/recognize?language=ENGLISH&input=2+10&offset=0").status, 400);
+		assertEquals(get(service, "/recognize?language=ENGLISH&input=invalid").status, 400);
+		assertEquals(get(service, "/recognize?language=UNKNOWN&input=2+10").status, 400);
+		assertEquals(get(service, "/recognize?language=ENGLISH").status, 400);
+	}
+
+	@Test
+	void countInput1() throws IOException {
+		Response response = get(service, "/count?language=ENGLISH&input=2+10+69+30+6+6+4");
+		assertEquals(response.status, 200);
+		assertEquals(response.lines, Arrays.asList("4"));
+
+		assertEquals(get(service, "/count?language=GREEK&input=0000909").lines, Arrays.asList("30"));
+		assertEquals(get(service, "/count?language=ENGLISH&input=invalid").status, 400);
+	}
+
+	@Test
+	void validateInput1() throws IOException {
+		Response response = get(service, "/validate?language=ENGLISH&country=GREECE&input=2+10+69+30+6+6+4");
+		assertEquals(response.status, 200);
+		assertEquals(response.lines, Arrays.asList("2106093664", "2106930664"));
+
+		assertEquals(get(service, "/validate?language=ENGLISH&input=2+10+69+30+6+6+4").status, 400);
+	}
+
+	@Test
+	void overloadInput1() throws IOException, InterruptedException {
+		// Single busy thread without queue rejects every request
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+				new SynchronousQueue<Runnable>());
+		CountDownLatch latch = new CountDownLatch(1);
+		executor.execute(() -> {
+			try {
+				latch.await();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		SNRHttpService overloaded = new SNRHttpService(new InetSocketAddress("localhost", 0), executor);
+		overloaded.start();
+		try {
+			assertEquals(get(overloaded, "/count?language=ENGLISH&input=2+10").status, 503);
+
+			// Request is handled once thread is free and waits for the next task
+			latch.countDown();
+			int status = 503;
+			for (int i = 0; i < 100 && status == 503; i++) {
+				Thread.sleep(50);
+				status = get(overloaded, "/count?language=ENGLISH&input=2+10").status;
+			}
+			assertEquals(status, 200);
+		} finally {
+			latch.countDown();
+			overloaded.stop(0);
+		}
+	}
+
+}